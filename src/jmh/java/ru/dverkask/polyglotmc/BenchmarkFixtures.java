@@ -0,0 +1,45 @@
+package ru.dverkask.polyglotmc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Provides the fixtures the benchmarks run against.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BenchmarkFixtures {
+
+    /**
+     * The system property naming a language file to use instead of the {@code en_us.json} fixture.
+     * It is set by the {@code jmh} Gradle task from the {@code polyglot.benchmarkLanguageFile} project property.
+     */
+    public static final String LANGUAGE_FILE_PROPERTY = "polyglot.benchmarkLanguageFile";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Reads the language file parsed and served by the benchmarks.
+     * This is the {@code /lang/en_us.json} fixture, unless {@link #LANGUAGE_FILE_PROPERTY} names another file.
+     *
+     * @return The content of the language file
+     * @throws IOException If the language file cannot be read
+     */
+    public static byte[] languageFile() throws IOException {
+        String path = System.getProperty(LANGUAGE_FILE_PROPERTY);
+        if (path != null) {
+            return Files.readAllBytes(Path.of(path));
+        }
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream("/lang/en_us.json")) {
+            if (in == null) {
+                throw new IOException("Missing fixture /lang/en_us.json");
+            }
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ru.dverkask.polyglotmc.api;
+
+import com.sun.net.httpserver.HttpServer;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.dverkask.polyglotmc.BenchmarkFixtures;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.loader.TranslationManager;
+import ru.dverkask.polyglotmc.provider.ArrayTranslationProvider;
+import ru.dverkask.polyglotmc.version.Version;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first translation into a language that is not loaded yet, with dynamic language loading enabled.
+ * <p>
+ * Each invocation uses a {@link Polyglot} for a fresh {@link Version}, so the table is never cached and the
+ * whole path is measured: the request for the language file, its parsing, the table build and the installation
+ * of the provider. After each invocation the instance is closed and its table evicted, so that the next table is
+ * built in full rather than as differences from the previous one, and nothing accumulates in the manager.
+ * The language file is the {@code en_us.json} fixture, served by a local HTTP server so the benchmark runs
+ * offline.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 50)
+@Measurement(iterations = 200)
+@Fork(1)
+public class DynamicLanguageBenchmark {
+
+    private HttpServer server;
+    private Polyglot polyglot;
+    private Version version;
+    private int invocation;
+
+    @Setup(Level.Trial)
+    public void startServer() throws IOException {
+        byte[] languageFile = BenchmarkFixtures.languageFile();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, languageFile.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(languageFile);
+            }
+        });
+        server.start();
+        TranslationManager.getInstance().setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/%s/%s.json");
+    }
+
+    @Setup(Level.Invocation)
+    public void createPolyglot() {
+        String name = "benchmark-" + invocation++;
+        version = () -> name;
+        polyglot = new Polyglot.Builder()
+                .withVersion(version)
+                .withTranslationProvider(SupportedLanguage.EN_US, new ArrayTranslationProvider(SupportedLanguage.EN_US, Map.of()))
+                .withDynamicLanguageLoading(true)
+                .withVersionFallback(false)
+                .build();
+    }
+
+    @TearDown(Level.Invocation)
+    public void closePolyglot() {
+        polyglot.close();
+        TranslationManager.getInstance().evict(SupportedLanguage.DE_DE, version);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public TranslationResult firstHit() {
+        return polyglot.translateAsync(Material.DIAMOND_SWORD, SupportedLanguage.DE_DE).join();
+    }
+}
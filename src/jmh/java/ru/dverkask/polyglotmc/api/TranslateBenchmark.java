@@ -0,0 +1,94 @@
+package ru.dverkask.polyglotmc.api;
+
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.provider.ArrayTranslationProvider;
+import ru.dverkask.polyglotmc.provider.CacheTranslationProvider;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of translating a single item and all items at once with {@link Polyglot}.
+ * <p>
+ * With the {@code gc} profiler, both {@link #translateName()} and {@link #translate()} are expected to report
+ * {@code gc.alloc.rate.norm} of 0 B/op, the latter returning the precomputed result of the provider, and so is
+ * {@link #translateAllInto()}, which reuses its target array. {@link #cacheProviderGetTranslation()} measures
+ * the map backed provider for comparison.
+ * The translations are built in memory, so the benchmark runs offline.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslateBenchmark {
+
+    private Polyglot polyglot;
+    private CacheTranslationProvider cacheProvider;
+    private Material item;
+    private Material[] items;
+    private Set<Material> itemSet;
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+        Map<Material, String> translations = new EnumMap<>(Material.class);
+        for (Material material : Material.values()) {
+            translations.put(material, "Translated " + material.name());
+        }
+        polyglot = new Polyglot.Builder()
+                .withTranslationProvider(SupportedLanguage.EN_US, new ArrayTranslationProvider(SupportedLanguage.EN_US, translations))
+                .build();
+        cacheProvider = new CacheTranslationProvider(translations);
+        item = Material.DIAMOND_SWORD;
+        items = Material.values();
+        itemSet = EnumSet.allOf(Material.class);
+        names = new String[items.length];
+    }
+
+    @Benchmark
+    public TranslationResult translate() {
+        return polyglot.translate(item, SupportedLanguage.EN_US);
+    }
+
+    @Benchmark
+    public String translateName() {
+        return polyglot.translateName(item, SupportedLanguage.EN_US);
+    }
+
+    @Benchmark
+    public String[] translateAllInto() {
+        return polyglot.translateAll(items, SupportedLanguage.EN_US, names);
+    }
+
+    @Benchmark
+    public Map<Material, String> translateAllCollection() {
+        return polyglot.translateAll(itemSet, SupportedLanguage.EN_US);
+    }
+
+    @Benchmark
+    public Optional<String> cacheProviderGetTranslation() {
+        return cacheProvider.getTranslation(item);
+    }
+}
@@ -0,0 +1,64 @@
+package ru.dverkask.polyglotmc.lang;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of a {@link SupportedLanguage} from a client locale code.
+ * <p>
+ * Codes are looked up as sent by clients, in lower case, and in the mixed case of {@link Locale#toString()},
+ * which takes the case-insensitive path. An unknown code measures the miss.
+ * With the {@code gc} profiler, {@link #byCode()} is expected to report 0 B/op for lower case codes.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LanguageLookupBenchmark {
+
+    @Param({"ru_ru", "de_DE", "xx_xx"})
+    private String code;
+
+    private Locale locale;
+
+    @Setup
+    public void setUp() {
+        String[] parts = code.split("_");
+        locale = new Locale(parts[0], parts[1]);
+    }
+
+    @Benchmark
+    public SupportedLanguage byCode() {
+        return SupportedLanguage.byCode(code);
+    }
+
+    @Benchmark
+    public Optional<SupportedLanguage> findByCode() {
+        return SupportedLanguage.findByCode(code);
+    }
+
+    @Benchmark
+    public Optional<SupportedLanguage> findByLocale() {
+        return SupportedLanguage.findByLocale(locale);
+    }
+}
@@ -0,0 +1,88 @@
+package ru.dverkask.polyglotmc.loader;
+
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.dverkask.polyglotmc.BenchmarkFixtures;
+import ru.dverkask.polyglotmc.table.KeyedTranslationTable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compares the streaming {@link LanguageFileReader} based parser of {@link TranslationLoader}
+ * with the regular expression parser it replaced.
+ * <p>
+ * Run with the {@code gc} profiler (enabled in {@code build.gradle}) to see the allocation rate of each parser.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LanguageFileParseBenchmark {
+
+    private static final Pattern JSON_PATTERN = Pattern.compile("\"((?:block|item)\\.minecraft\\.[^\"]+)\"\\s*:\\s*\"([^\"]+)\"");
+
+    private byte[] languageFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        languageFile = BenchmarkFixtures.languageFile();
+    }
+
+    @Benchmark
+    public Map<Material, String> streaming() throws IOException {
+        return TranslationLoader.parseJson(new ByteArrayInputStream(languageFile));
+    }
+
+    @Benchmark
+    public KeyedTranslationTable keyed() throws IOException {
+        return TranslationLoader.parseKeyedJson(new ByteArrayInputStream(languageFile), UnaryOperator.identity());
+    }
+
+    @Benchmark
+    public Map<Material, String> regex() {
+        String jsonContent = new String(languageFile, StandardCharsets.UTF_8);
+        return Pattern.compile(String.valueOf(JSON_PATTERN))
+                .matcher(jsonContent)
+                .results()
+                .map(matchResult -> new String[]{matchResult.group(1), matchResult.group(2)})
+                .filter(groups -> groups[0].split("\\.").length >= 3)
+                .flatMap(groups -> {
+                    try {
+                        Material material = Material.valueOf(groups[0].split("\\.")[2].toUpperCase());
+                        return Stream.of(new AbstractMap.SimpleEntry<>(material, groups[1]));
+                    } catch (IllegalArgumentException e) {
+                        return Stream.empty();
+                    }
+                })
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        Map.Entry::getValue,
+                        (existing, replacement) -> existing
+                ));
+    }
+}
@@ -0,0 +1,130 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a {@link FuzzyTranslationIndex} query with the edit distance scan over every translation it replaces.
+ * <p>
+ * The index holds a name for every {@link Material}. Names are derived from the material names, in Latin script
+ * for {@code en_us} and transliterated into Cyrillic for {@code ru_ru}, so the benchmark runs offline while still
+ * covering non-Latin characters. The query is a misspelled "diamond sword".
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuzzySearchBenchmark {
+
+    private static final String LATIN = "abcdefghijklmnopqrstuvwxyz";
+    private static final String[] CYRILLIC = {
+            "\u0430", "\u0431", "\u0446", "\u0434", "\u0435", "\u0444", "\u0433", "\u0445", "\u0438",
+            "\u0436", "\u043a", "\u043b", "\u043c", "\u043d", "\u043e", "\u043f", "\u043a", "\u0440",
+            "\u0441", "\u0442", "\u0443", "\u0432", "\u0432", "\u043a\u0441", "\u044b", "\u0437"};
+
+    @Param({"en_us", "ru_ru"})
+    private String language;
+
+    private Map<Material, String> translations;
+    private FuzzyTranslationIndex index;
+    private String query;
+
+    @Setup
+    public void setUp() {
+        boolean cyrillic = language.equals("ru_ru");
+        translations = new EnumMap<>(Material.class);
+        for (Material material : Material.values()) {
+            translations.put(material, name(material.name().replace('_', ' '), cyrillic));
+        }
+        index = FuzzyTranslationIndex.of(translations::get);
+        query = name("DIAMOD SWROD", cyrillic);
+    }
+
+    @Benchmark
+    public List<Material> trigramSearch() {
+        return index.search(query, 5);
+    }
+
+    @Benchmark
+    public FuzzyTranslationIndex build() {
+        return FuzzyTranslationIndex.of(translations::get);
+    }
+
+    @Benchmark
+    public List<Material> levenshteinScan() {
+        String normalized = ReverseTranslationIndex.normalize(query);
+        List<Material> best = new ArrayList<>();
+        int bestDistance = Integer.MAX_VALUE;
+        for (Map.Entry<Material, String> entry : translations.entrySet()) {
+            int distance = levenshtein(normalized, ReverseTranslationIndex.normalize(entry.getValue()));
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best.clear();
+            }
+            if (distance == bestDistance) {
+                best.add(entry.getKey());
+            }
+        }
+        return best;
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1], previous[j]) + 1, previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static String name(String words, boolean cyrillic) {
+        String lower = words.toLowerCase(Locale.ROOT);
+        if (!cyrillic) {
+            return lower;
+        }
+        StringBuilder name = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            int letter = LATIN.indexOf(lower.charAt(i));
+            if (letter >= 0) {
+                name.append(CYRILLIC[letter]);
+            } else {
+                name.append(lower.charAt(i));
+            }
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,47 @@
+package ru.dverkask.polyglotmc.version;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of a {@link Version} from its string and the resolution of its nearest release.
+ * <p>
+ * The versions cover a release, a snapshot, a pre-release and an unknown version.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionLookupBenchmark {
+
+    @Param({"1.20.4", "24w14a", "1.21-pre1", "0.0.0"})
+    private String version;
+
+    @Benchmark
+    public Optional<Version> findByVersion() {
+        return SupportedVersion.findByVersion(version);
+    }
+
+    @Benchmark
+    public Optional<SupportedVersion.Release> nearestRelease() {
+        return SupportedVersion.findByVersion(version).flatMap(SupportedVersion::nearestRelease);
+    }
+}
@@ -0,0 +1,37 @@
+package ru.dverkask.polyglotmc.api;
+
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+
+/**
+ * The translations served by {@link Polyglot} in one language since it was built.
+ *
+ * @param language The requested language.
+ * @param loaded Whether the translations of the language are currently loaded.
+ * @param hits The number of items translated into the language.
+ * @param misses The number of items without a translation in the language, answered with their name.
+ *               These are the results with {@link TranslationResult#isTranslated()} false.
+ * @param fallbacks The number of items answered in the default language because the language was not loaded.
+ *                  They are counted neither as hits nor as misses.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see Polyglot#getMetrics()
+ */
+public record LanguageMetrics(
+        SupportedLanguage language,
+        boolean loaded,
+        long hits,
+        long misses,
+        long fallbacks
+) {
+
+    /**
+     * Returns the number of items requested in this language.
+     *
+     * @return The sum of hits, misses and fallbacks.
+     */
+    public long requests() {
+        return hits + misses + fallbacks;
+    }
+}
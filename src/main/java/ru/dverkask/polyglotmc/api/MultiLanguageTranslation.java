@@ -0,0 +1,64 @@
+package ru.dverkask.polyglotmc.api;
+
+import org.bukkit.Material;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+
+/**
+ * The translations of a single Minecraft item into every {@link SupportedLanguage}.
+ * <p>
+ * Instances are returned by {@link Polyglot#translateForAll(Material)} and are meant for broadcasts,
+ * where the same item is shown to many players with different locales. The names are stored in an array
+ * indexed by {@link SupportedLanguage#ordinal()}, so {@link #get(SupportedLanguage)} is a single array load.
+ * Languages that were not loaded when the instance was built hold the translation into the default language.
+ * </p>
+ * <p>
+ * Instances are immutable and may be shared between threads.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see Polyglot#translateForAll(Material)
+ */
+public final class MultiLanguageTranslation {
+
+    /**
+     * The translated item.
+     */
+    private final Material item;
+
+    /**
+     * The translated names, indexed by {@link SupportedLanguage#ordinal()}.
+     */
+    private final String[] names;
+
+    /**
+     * Constructs a new MultiLanguageTranslation.
+     *
+     * @param item  The translated item.
+     * @param names The translated names, indexed by {@link SupportedLanguage#ordinal()}. The array is not copied.
+     */
+    MultiLanguageTranslation(Material item, String[] names) {
+        this.item = item;
+        this.names = names;
+    }
+
+    /**
+     * Returns the translated item.
+     *
+     * @return The {@link Material} these translations belong to.
+     */
+    public Material item() {
+        return item;
+    }
+
+    /**
+     * Returns the name of the item in the given language.
+     *
+     * @param language The language of the name.
+     * @return The translated name, or the name of the item if no translation is available.
+     */
+    public String get(SupportedLanguage language) {
+        return names[language.ordinal()];
+    }
+}
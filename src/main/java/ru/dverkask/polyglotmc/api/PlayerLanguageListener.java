@@ -0,0 +1,40 @@
+package ru.dverkask.polyglotmc.api;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Keeps the cached language of each online player of a {@link Polyglot} instance up to date.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see Polyglot#registerListener(org.bukkit.plugin.Plugin)
+ */
+final class PlayerLanguageListener implements Listener {
+
+    private final Polyglot polyglot;
+
+    PlayerLanguageListener(Polyglot polyglot) {
+        this.polyglot = polyglot;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        polyglot.updateLanguage(event.getPlayer(), event.getPlayer().locale());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onLocaleChange(PlayerLocaleChangeEvent event) {
+        polyglot.updateLanguage(event.getPlayer(), event.locale());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        polyglot.forgetLanguage(event.getPlayer());
+    }
+}
@@ -1,14 +1,47 @@
 package ru.dverkask.polyglotmc.api;
 
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.Style;
 import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
 import ru.dverkask.polyglotmc.lang.SupportedLanguage;
-import ru.dverkask.polyglotmc.provider.CacheTranslationProvider;
+import ru.dverkask.polyglotmc.loader.TranslationCacheListener;
+import ru.dverkask.polyglotmc.loader.TranslationKey;
+import ru.dverkask.polyglotmc.loader.TranslationLoadReport;
+import ru.dverkask.polyglotmc.loader.TranslationManager;
+import ru.dverkask.polyglotmc.loader.TranslationMetrics;
+import ru.dverkask.polyglotmc.provider.ArrayTranslationProvider;
+import ru.dverkask.polyglotmc.provider.CompactTranslationProvider;
+import ru.dverkask.polyglotmc.table.FuzzyTranslationIndex;
+import ru.dverkask.polyglotmc.table.ReverseTranslationIndex;
+import ru.dverkask.polyglotmc.table.StorageMode;
+import ru.dverkask.polyglotmc.table.TranslationTable;
 import ru.dverkask.polyglotmc.version.SupportedVersion;
 import ru.dverkask.polyglotmc.version.Version;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
 import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Logger;
 
 /**
  * The main class of the PolyglotMC library, providing functionality for translating Minecraft item names
@@ -25,9 +58,56 @@ import java.util.Optional;
 public final class Polyglot {
 
     /**
-     * A map of translation providers for each supported language.
+     * The provider used when not even the default language is loaded yet. It has no translations.
      */
-    private final Map<SupportedLanguage, TranslationProvider> translationProviders;
+    private static final TranslationProvider EMPTY_PROVIDER = item -> Optional.empty();
+
+    /**
+     * The time after which a language that failed to load is loaded again by a translation, in nanoseconds.
+     */
+    private static final long LOAD_RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * The translation provider of each supported language, indexed by {@link SupportedLanguage#ordinal()},
+     * or null for languages that are not loaded.
+     * Dynamically loaded and preloaded languages are added to it from the loader threads.
+     */
+    private final AtomicReferenceArray<TranslationProvider> translationProviders;
+
+    /**
+     * The resolved language of each online player, maintained by {@link PlayerLanguageListener}.
+     */
+    private final Map<UUID, SupportedLanguage> playerLanguages;
+
+    /**
+     * Languages whose dynamic loading is in progress, mapped to the future of their provider.
+     */
+    private final Map<SupportedLanguage, CompletableFuture<TranslationProvider>> pendingProviders;
+
+    /**
+     * The {@link System#nanoTime()} before which a language that failed to load is not loaded again by
+     * {@link #resolveProvider(SupportedLanguage)}, indexed by {@link SupportedLanguage#ordinal()}, or 0.
+     */
+    private final AtomicLongArray loadRetryTimes;
+
+    /**
+     * Translations of each material into every language, indexed by {@link Material#ordinal()} and filled on demand.
+     * The array is replaced with an empty one whenever a language is loaded, so stale vectors are never served.
+     */
+    private volatile AtomicReferenceArray<MultiLanguageTranslation> multiLanguageTranslations;
+
+    /**
+     * The reverse index of each language, indexed by {@link SupportedLanguage#ordinal()} and built on first use.
+     * Each index remembers the provider it was built from and is rebuilt once that provider is replaced.
+     */
+    private final AtomicReferenceArray<ProviderIndex> reverseIndexes;
+
+    /**
+     * The components of translated names for each style, indexed by {@link SupportedLanguage#ordinal()},
+     * then by {@link Material#ordinal()}, and filled on demand.
+     * Like reverse indexes, the components of a language are rebuilt once its provider is replaced.
+     */
+    private final ConcurrentMap<Style, AtomicReferenceArray<ProviderComponents>> components;
 
     /**
      * The default language to use when a specific language is not available.
@@ -44,15 +124,83 @@ public final class Polyglot {
      */
     private final Version version;
 
+    /**
+     * Completed once all declared languages are loaded, with the load report of each of them.
+     */
+    private final CompletableFuture<Map<SupportedLanguage, TranslationLoadReport>> ready;
+
+    /**
+     * Flags set when a language is used, indexed by {@link SupportedLanguage#ordinal()}.
+     * They are reported to the {@link TranslationManager} and cleared before it evicts cold tables.
+     */
+    private final AtomicIntegerArray languageUsage;
+
+    /**
+     * The listener dropping the providers of evicted languages, or null if dynamic language loading is disabled.
+     * It is referenced here because the manager only holds it weakly.
+     */
+    private final TranslationCacheListener cacheListener;
+
+    /**
+     * The languages whose tables were pinned in the {@link TranslationManager} by the builder.
+     */
+    private final Set<SupportedLanguage> pinnedLanguages;
+
+    /**
+     * The counts of translations served per language, reported by {@link #getMetrics()}.
+     */
+    private final TranslationCounters counters;
+
     private Polyglot(Builder builder) {
-        this.translationProviders = builder.translationProviders;
+        this.translationProviders = new AtomicReferenceArray<>(SupportedLanguage.values().length);
+        builder.translationProviders.forEach((language, provider) -> translationProviders.set(language.ordinal(), provider));
+        this.playerLanguages = new ConcurrentHashMap<>();
+        this.pendingProviders = new ConcurrentHashMap<>();
+        this.loadRetryTimes = new AtomicLongArray(SupportedLanguage.values().length);
+        this.multiLanguageTranslations = new AtomicReferenceArray<>(Material.values().length);
+        this.reverseIndexes = new AtomicReferenceArray<>(SupportedLanguage.values().length);
+        this.components = new ConcurrentHashMap<>();
         this.defaultLanguage = builder.defaultLanguage;
         this.dynamicLanguageLoading = builder.dynamicLanguageLoading;
         this.version = builder.version;
+        this.languageUsage = new AtomicIntegerArray(SupportedLanguage.values().length);
+        this.counters = new TranslationCounters();
+        this.pinnedLanguages = EnumSet.copyOf(builder.languages);
+        pinnedLanguages.add(defaultLanguage);
+        this.cacheListener = dynamicLanguageLoading ? new EvictionListener() : null;
+        if (cacheListener != null) {
+            TranslationManager.getInstance().addCacheListener(cacheListener);
+        }
+        this.ready = preload(builder.languages, builder.preloading);
+    }
+
+    /**
+     * Returns a future completed once all languages declared with {@link Builder#withLanguages(SupportedLanguage...)}
+     * are loaded.
+     * <p>
+     * When preloading is enabled, languages are loaded in the background after {@link Builder#build()} returns,
+     * and this future can be used to wait for them. Otherwise it is already completed. The future carries the
+     * {@link TranslationLoadReport} of each declared language, with its load and parse times. Languages that
+     * failed to load have no report; they are translated to the default language until they load.
+     * </p>
+     *
+     * @return A {@link CompletableFuture} completed with the load report of each declared language.
+     * @see Builder#withPreloading(boolean)
+     */
+    public CompletableFuture<Map<SupportedLanguage, TranslationLoadReport>> ready() {
+        return ready;
     }
 
     /**
      * Translates the name of a Minecraft item to the specified language.
+     * <p>
+     * This method never blocks on network access. If dynamic language loading is enabled and the
+     * language is not loaded yet, its loading is started in the background and the item is translated
+     * to the default language until the language becomes available.
+     * </p>
+     * <p>
+     * For loaded languages, the returned result is the shared instance precomputed by the provider.
+     * </p>
      *
      * @param item     The Minecraft item to translate.
      * @param language The target language for translation.
@@ -60,23 +208,702 @@ public final class Polyglot {
      * @throws IllegalArgumentException if the item or language is null.
      */
     public TranslationResult translate(Material item, SupportedLanguage language) {
-        TranslationProvider provider = translationProviders.get(language);
+        TranslationProvider provider = loadedProvider(language);
+        if (provider == null) {
+            counters.fallback(language);
+            return defaultProvider().getResult(item, language);
+        }
+        TranslationResult result = provider.getResult(item, language);
+        counters.count(language, result.isTranslated());
+        return result;
+    }
+
+    /**
+     * Translates the name of a Minecraft item to the specified language and returns the name only.
+     * <p>
+     * Unlike {@link #translate(Material, SupportedLanguage)}, this method does not allocate a result
+     * once the language is loaded: it returns the stored translation directly, which makes it suitable
+     * for code that renders many items per tick. Languages are resolved and loaded in the same way.
+     * </p>
+     *
+     * @param item     The Minecraft item to translate.
+     * @param language The target language for translation.
+     * @return The translated name, or the name of the item if no translation is available.
+     */
+    public String translateName(Material item, SupportedLanguage language) {
+        TranslationProvider provider = loadedProvider(language);
+        String translation;
+        if (provider == null) {
+            counters.fallback(language);
+            translation = defaultProvider().getTranslationOrNull(item);
+        } else {
+            translation = provider.getTranslationOrNull(item);
+            counters.count(language, translation != null);
+        }
+        return translation != null ? translation : item.name();
+    }
+
+    /**
+     * Translates the name of a Minecraft item to the default language and returns the name only.
+     *
+     * @param item The Minecraft item to translate.
+     * @return The translated name, or the name of the item if no translation is available.
+     * @see #translateName(Material, SupportedLanguage)
+     */
+    public String translateName(Material item) {
+        return translateName(item, defaultLanguage);
+    }
+
+    /**
+     * Translates the names of several Minecraft items to the specified language into a caller-supplied array.
+     * <p>
+     * The provider of the language is resolved once for the whole array, which makes this method suitable
+     * for translating inventories and other large groups of items. Element {@code i} of {@code target}
+     * receives the translation of element {@code i} of {@code items}, or the name of the item if no
+     * translation is available. Elements of {@code target} beyond the length of {@code items} are left untouched.
+     * </p>
+     *
+     * @param items    The Minecraft items to translate.
+     * @param language The target language for translation.
+     * @param target   The array receiving the translated names.
+     * @return The {@code target} array.
+     * @throws IllegalArgumentException if {@code target} is shorter than {@code items}.
+     */
+    public String[] translateAll(Material[] items, SupportedLanguage language, String[] target) {
+        if (target.length < items.length) {
+            throw new IllegalArgumentException("Target array is shorter than the items array");
+        }
+        TranslationProvider provider = loadedProvider(language);
+        (provider != null ? provider : defaultProvider()).getTranslationsOrNull(items, target);
+        int missing = 0;
+        for (int i = 0; i < items.length; i++) {
+            if (target[i] == null) {
+                target[i] = items[i].name();
+                missing++;
+            }
+        }
+        if (provider != null) {
+            counters.count(language, items.length, missing);
+        } else {
+            counters.fallback(language, items.length);
+        }
+        return target;
+    }
+
+    /**
+     * Translates the names of several Minecraft items to the specified language.
+     *
+     * @param items    The Minecraft items to translate.
+     * @param language The target language for translation.
+     * @return A new array containing the translated names, in the order of {@code items}.
+     * @see #translateAll(Material[], SupportedLanguage, String[])
+     */
+    public String[] translateAll(Material[] items, SupportedLanguage language) {
+        return translateAll(items, language, new String[items.length]);
+    }
+
+    /**
+     * Translates the names of a collection of Minecraft items, such as an {@link java.util.EnumSet}, to the specified language.
+     * <p>
+     * The provider of the language is resolved once for the whole collection.
+     * Items without a translation are mapped to their name.
+     * </p>
+     *
+     * @param items    The Minecraft items to translate.
+     * @param language The target language for translation.
+     * @return A new {@link EnumMap} from each item to its translated name.
+     */
+    public Map<Material, String> translateAll(Collection<Material> items, SupportedLanguage language) {
+        TranslationProvider loaded = loadedProvider(language);
+        TranslationProvider provider = loaded != null ? loaded : defaultProvider();
+        Map<Material, String> translations = new EnumMap<>(Material.class);
+        int missing = 0;
+        for (Material item : items) {
+            String translation = provider.getTranslationOrNull(item);
+            if (translation == null) {
+                translation = item.name();
+                missing++;
+            }
+            translations.put(item, translation);
+        }
+        if (loaded != null) {
+            counters.count(language, items.size(), missing);
+        } else {
+            counters.fallback(language, items.size());
+        }
+        return translations;
+    }
+
+    /**
+     * Returns the translated name of a Minecraft item as a text {@link Component} with the given style.
+     * <p>
+     * Components are immutable, so each one is built once per item, language and style and then returned
+     * to every caller, ready to be used in lore lines, hover texts and chat messages. Styles are meant to be
+     * a few presets kept in constants, as each distinct style gets its own cache. The cache of a language
+     * is rebuilt once the language is loaded or evicted. Languages are resolved and loaded as with
+     * {@link #translateName(Material, SupportedLanguage)}.
+     * </p>
+     *
+     * @param item     The Minecraft item to translate.
+     * @param language The target language for translation.
+     * @param style    The style of the component.
+     * @return The component of the translated name, or of the name of the item if no translation is available.
+     */
+    public Component translateComponent(Material item, SupportedLanguage language, Style style) {
+        TranslationProvider loaded = loadedProvider(language);
+        TranslationProvider provider;
+        if (loaded == null) {
+            counters.fallback(language);
+            provider = defaultProvider();
+        } else {
+            counters.count(language, loaded.getTranslationOrNull(item) != null);
+            provider = loaded;
+        }
+        AtomicReferenceArray<ProviderComponents> byLanguage = components.get(style);
+        if (byLanguage == null) {
+            byLanguage = components.computeIfAbsent(style, key -> new AtomicReferenceArray<>(SupportedLanguage.values().length));
+        }
+        int ordinal = language.ordinal();
+        ProviderComponents cached = byLanguage.get(ordinal);
+        if (cached == null || cached.provider() != provider) {
+            ProviderComponents created = new ProviderComponents(provider, new AtomicReferenceArray<>(Material.values().length));
+            ProviderComponents witness = byLanguage.compareAndExchange(ordinal, cached, created);
+            cached = witness == cached || witness.provider() != provider ? created : witness;
+        }
+        Component component = cached.components().get(item.ordinal());
+        if (component == null) {
+            String translation = provider.getTranslationOrNull(item);
+            component = Component.text(translation != null ? translation : item.name(), style);
+            if (!cached.components().compareAndSet(item.ordinal(), null, component)) {
+                component = cached.components().get(item.ordinal());
+            }
+        }
+        return component;
+    }
+
+    /**
+     * Returns the translated name of a Minecraft item as an unstyled text {@link Component}.
+     *
+     * @param item     The Minecraft item to translate.
+     * @param language The target language for translation.
+     * @return The component of the translated name, or of the name of the item if no translation is available.
+     * @see #translateComponent(Material, SupportedLanguage, Style)
+     */
+    public Component translateComponent(Material item, SupportedLanguage language) {
+        return translateComponent(item, language, Style.empty());
+    }
+
+    /**
+     * Translates the name of a Minecraft item to every supported language at once.
+     * <p>
+     * This is intended for broadcasts: the returned {@link MultiLanguageTranslation} is looked up once per
+     * item and then answers each player's language with a single array load. Languages that are not loaded
+     * are answered in the default language. Vectors are built from the loaded providers on first use and
+     * cached per item until another language is loaded.
+     * </p>
+     *
+     * @param item The Minecraft item to translate.
+     * @return The {@link MultiLanguageTranslation} of the item.
+     */
+    public MultiLanguageTranslation translateForAll(Material item) {
+        AtomicReferenceArray<MultiLanguageTranslation> cache = multiLanguageTranslations;
+        MultiLanguageTranslation translation = cache.get(item.ordinal());
+        if (translation == null) {
+            translation = createMultiLanguageTranslation(item);
+            if (!cache.compareAndSet(item.ordinal(), null, translation)) {
+                translation = cache.get(item.ordinal());
+            }
+        }
+        return translation;
+    }
+
+    /**
+     * Builds the translations of an item into every supported language from the loaded providers.
+     *
+     * @param item The Minecraft item to translate.
+     * @return A new {@link MultiLanguageTranslation} of the item.
+     */
+    private MultiLanguageTranslation createMultiLanguageTranslation(Material item) {
+        String fallback = defaultProvider().getTranslationOrNull(item);
+        if (fallback == null) {
+            fallback = item.name();
+        }
+        SupportedLanguage[] languages = SupportedLanguage.values();
+        String[] names = new String[languages.length];
+        for (SupportedLanguage language : languages) {
+            TranslationProvider provider = translationProviders.get(language.ordinal());
+            if (provider == null) {
+                names[language.ordinal()] = fallback;
+                continue;
+            }
+            String translation = provider.getTranslationOrNull(item);
+            names[language.ordinal()] = translation != null ? translation : item.name();
+        }
+        return new MultiLanguageTranslation(item, names);
+    }
+
+    /**
+     * Finds the material with the given translated name, for commands accepting localized item names.
+     * The name is matched regardless of case, accents composition and repeated whitespace.
+     *
+     * @param name     The translated name typed by a player.
+     * @param language The language of the name.
+     * @return An {@link Optional} containing the material, or an empty Optional if no material has this name.
+     */
+    public Optional<Material> findMaterial(String name, SupportedLanguage language) {
+        return getReverseIndex(language).find(name);
+    }
+
+    /**
+     * Completes a typed prefix into the translated names of materials starting with it, for tab completion.
+     *
+     * @param prefix   The prefix typed by a player.
+     * @param language The language of the names.
+     * @param limit    The maximum number of names to return.
+     * @return The matching names in alphabetical order, at most {@code limit}.
+     */
+    public List<String> completeNames(String prefix, SupportedLanguage language, int limit) {
+        return getReverseIndex(language).complete(prefix, limit);
+    }
+
+    /**
+     * Suggests the materials whose translated names are the most similar to a possibly misspelled name.
+     * <p>
+     * This uses the {@link FuzzyTranslationIndex} of the language, built in the background once its table
+     * is loaded; see {@link Builder#withFuzzySearch(boolean)}. Until the index is ready, and for languages given
+     * their own {@link TranslationProvider}, no suggestion is returned.
+     * </p>
+     *
+     * @param query    The name typed by a player.
+     * @param language The language of the name.
+     * @param limit    The maximum number of materials to return.
+     * @return The most similar materials, best match first, at most {@code limit}.
+     */
+    public List<Material> suggestMaterials(String query, SupportedLanguage language, int limit) {
+        return TranslationManager.getInstance().getFuzzyIndex(language, version)
+                .map(index -> index.search(query, limit))
+                .orElse(List.of());
+    }
+
+    /**
+     * Returns the index from the translated names of a language back to materials.
+     * <p>
+     * The index is built from the provider of the language the first time it is needed, then shared by all
+     * callers until the provider is replaced, for example when the language is loaded or evicted. If the
+     * language is not loaded, the index of the names in the default language is returned instead.
+     * </p>
+     *
+     * @param language The language of the names.
+     * @return The {@link ReverseTranslationIndex} of the language.
+     */
+    public ReverseTranslationIndex getReverseIndex(SupportedLanguage language) {
+        TranslationProvider provider = resolveProvider(language);
+        int ordinal = language.ordinal();
+        ProviderIndex index = reverseIndexes.get(ordinal);
+        if (index == null || index.provider() != provider) {
+            ProviderIndex built = new ProviderIndex(provider, ReverseTranslationIndex.of(provider::getTranslationOrNull));
+            ProviderIndex witness = reverseIndexes.compareAndExchange(ordinal, index, built);
+            index = witness == index || witness.provider() != provider ? built : witness;
+        }
+        return index.index();
+    }
+
+    /**
+     * Returns the provider to use for a language, falling back to the default language if it is not available.
+     * If dynamic language loading is enabled, a missing language is loaded in the background.
+     *
+     * @param language The requested language.
+     * @return The {@link TranslationProvider} to translate with.
+     */
+    private TranslationProvider resolveProvider(SupportedLanguage language) {
+        TranslationProvider provider = loadedProvider(language);
+        return provider != null ? provider : defaultProvider();
+    }
+
+    /**
+     * Returns the provider of a language if it is available, so that callers can tell a fallback
+     * to the default language apart. If dynamic language loading is enabled, a missing language is loaded
+     * in the background.
+     *
+     * @param language The requested language.
+     * @return The {@link TranslationProvider} of the language, or null if the default language must be used.
+     */
+    private TranslationProvider loadedProvider(SupportedLanguage language) {
+        TranslationProvider provider = translationProviders.get(language.ordinal());
         if (provider == null) {
             if (dynamicLanguageLoading) {
-                provider = new CacheTranslationProvider(language, version);
-                translationProviders.put(language, provider);
-            } else {
-                provider = translationProviders.get(defaultLanguage);
+                long retryTime = loadRetryTimes.get(language.ordinal());
+                if (retryTime == 0 || System.nanoTime() - retryTime >= 0) {
+                    loadProvider(language);
+                }
             }
+            return null;
         }
+        int ordinal = language.ordinal();
+        if (languageUsage.get(ordinal) == 0) {
+            languageUsage.lazySet(ordinal, 1);
+        }
+        return provider;
+    }
+
+    /**
+     * Returns the provider of the default language, or a provider without translations
+     * if the default language is still being preloaded.
+     *
+     * @return The {@link TranslationProvider} of the default language.
+     */
+    private TranslationProvider defaultProvider() {
+        TranslationProvider provider = translationProviders.get(defaultLanguage.ordinal());
+        return provider != null ? provider : EMPTY_PROVIDER;
+    }
 
-        Optional<String> translation = provider.getTranslation(item);
-        return new TranslationResult(
-                item.name(),
-                translation.orElse(item.name()),
-                language,
-                translation.isPresent()
-        );
+    /**
+     * Translates the name of a Minecraft item to the specified language, waiting for the language to load.
+     * <p>
+     * If the language is already available, the returned future is already completed. If dynamic language
+     * loading is enabled and the language is not loaded yet, the future completes once its translations
+     * have been loaded in the background. Otherwise, or if the language fails to load, the item is translated
+     * to the default language, as with {@link #translate(Material, SupportedLanguage)}. A language that failed
+     * to load is loaded again by the next call.
+     * </p>
+     *
+     * @param item     The Minecraft item to translate.
+     * @param language The target language for translation.
+     * @return A {@link CompletableFuture} completed with the {@link TranslationResult}.
+     */
+    public CompletableFuture<TranslationResult> translateAsync(Material item, SupportedLanguage language) {
+        TranslationProvider provider = translationProviders.get(language.ordinal());
+        if (provider == null && dynamicLanguageLoading) {
+            return loadProvider(language).handle((loaded, error) -> {
+                if (loaded == null) {
+                    return translate(item, language);
+                }
+                TranslationResult result = loaded.getResult(item, language);
+                counters.count(language, result.isTranslated());
+                return result;
+            });
+        }
+        return CompletableFuture.completedFuture(translate(item, language));
+    }
+
+    /**
+     * Starts loading the provider of a language in the background, or returns the load already in progress.
+     * The loaded provider is registered for all subsequent translations.
+     *
+     * @param language The language to load.
+     * @return A {@link CompletableFuture} completed with the provider of the language.
+     */
+    private CompletableFuture<TranslationProvider> loadProvider(SupportedLanguage language) {
+        CompletableFuture<TranslationProvider> pending = pendingProviders.get(language);
+        if (pending != null) {
+            return pending;
+        }
+        CompletableFuture<TranslationProvider> created = new CompletableFuture<>();
+        pending = pendingProviders.putIfAbsent(language, created);
+        if (pending != null) {
+            return pending;
+        }
+        TranslationManager.getInstance().getTableAsync(language, version).whenComplete((table, error) -> {
+            if (error != null) {
+                loadRetryTimes.set(language.ordinal(), Math.max(System.nanoTime() + LOAD_RETRY_DELAY_NANOS, 1));
+                pendingProviders.remove(language, created);
+                created.completeExceptionally(error);
+                return;
+            }
+            TranslationProvider provider = createProvider(language, table);
+            TranslationProvider existing = translationProviders.compareAndExchange(language.ordinal(), null, provider);
+            if (existing == null) {
+                multiLanguageTranslations = new AtomicReferenceArray<>(Material.values().length);
+            }
+            created.complete(existing != null ? existing : provider);
+        });
+        return created;
+    }
+
+    /**
+     * Creates the provider of a loaded table, suited to the layout the table is stored in.
+     *
+     * @param language The language of the table.
+     * @param table    The loaded table.
+     * @return A {@link CompactTranslationProvider} for a compact table, or a delta table over a compact table,
+     *         an {@link ArrayTranslationProvider} otherwise.
+     */
+    private static TranslationProvider createProvider(SupportedLanguage language, TranslationTable table) {
+        if (table.isCompact()) {
+            return new CompactTranslationProvider(table);
+        }
+        return new ArrayTranslationProvider(language, table);
+    }
+
+    /**
+     * Releases what this instance holds in the shared {@link TranslationManager}, typically when the plugin
+     * is disabled.
+     * <p>
+     * The tables pinned by the builder are unpinned and the eviction listener of this instance is unregistered,
+     * so that the manager can evict the tables once no other instance uses them. Translations keep working with
+     * the providers already loaded, but languages evicted afterwards are no longer dropped from this instance.
+     * </p>
+     */
+    public void close() {
+        TranslationManager manager = TranslationManager.getInstance();
+        if (cacheListener != null) {
+            manager.removeCacheListener(cacheListener);
+        }
+        for (SupportedLanguage language : pinnedLanguages) {
+            manager.unpin(language, version);
+        }
+    }
+
+    /**
+     * Reports the languages used by this instance to the {@link TranslationManager} and drops the providers
+     * of dynamically loaded languages whose tables are evicted, so that they are loaded again on next use.
+     */
+    private final class EvictionListener implements TranslationCacheListener {
+
+        @Override
+        public void collectUsage(TranslationManager manager) {
+            for (SupportedLanguage language : SupportedLanguage.values()) {
+                if (languageUsage.get(language.ordinal()) != 0) {
+                    languageUsage.set(language.ordinal(), 0);
+                    manager.touch(language, version);
+                }
+            }
+        }
+
+        @Override
+        public void tableEvicted(TranslationKey key) {
+            if (!key.version().equals(version)) {
+                return;
+            }
+            CompletableFuture<TranslationProvider> pending = pendingProviders.remove(key.language());
+            if (pending == null) {
+                return;
+            }
+            TranslationProvider provider = pending.getNow(null);
+            int ordinal = key.language().ordinal();
+            if (provider != null && translationProviders.compareAndSet(ordinal, provider, null)) {
+                multiLanguageTranslations = new AtomicReferenceArray<>(Material.values().length);
+                reverseIndexes.set(ordinal, null);
+                for (AtomicReferenceArray<ProviderComponents> byLanguage : components.values()) {
+                    byLanguage.set(ordinal, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the declared languages that have no provider yet in the background, or collects their
+     * load reports if they were loaded by the builder.
+     *
+     * @param languages  The declared languages.
+     * @param background Whether the languages still have to be loaded.
+     * @return A {@link CompletableFuture} completed with the load report of each declared language.
+     */
+    private CompletableFuture<Map<SupportedLanguage, TranslationLoadReport>> preload(Set<SupportedLanguage> languages,
+                                                                                     boolean background) {
+        TranslationManager manager = TranslationManager.getInstance();
+        Map<SupportedLanguage, TranslationLoadReport> reports = new ConcurrentHashMap<>();
+        List<CompletableFuture<?>> loads = new ArrayList<>();
+        for (SupportedLanguage language : languages) {
+            CompletableFuture<TranslationProvider> load = background && translationProviders.get(language.ordinal()) == null
+                    ? loadProvider(language).thenApply(provider -> warmUp(language, provider))
+                    : CompletableFuture.completedFuture(null);
+            loads.add(load.handle((provider, error) -> {
+                if (error == null) {
+                    manager.getLoadReport(language, version).ifPresent(report -> reports.put(language, report));
+                }
+                return null;
+            }));
+        }
+        return CompletableFuture.allOf(loads.toArray(CompletableFuture<?>[]::new))
+                .thenApply(ignored -> Collections.unmodifiableMap(reports));
+    }
+
+    /**
+     * Exercises the lookup paths of a freshly loaded provider, so that they are compiled
+     * before the first players are served.
+     *
+     * @param language The language of the provider.
+     * @param provider The provider to warm up.
+     * @return The {@code provider}.
+     */
+    private static TranslationProvider warmUp(SupportedLanguage language, TranslationProvider provider) {
+        Material[] materials = Material.values();
+        String[] names = new String[materials.length];
+        provider.getTranslationsOrNull(materials, names);
+        for (Material material : materials) {
+            provider.getTranslationOrNull(material);
+            provider.getResult(material, language);
+        }
+        return provider;
+    }
+
+    /**
+     * Translates the name of a Minecraft item to the language of a player.
+     * <p>
+     * The player's language is resolved from their client locale, see {@link #getLanguage(Player)}.
+     * Players whose locale is not supported get the default language.
+     * </p>
+     *
+     * @param item   The Minecraft item to translate.
+     * @param player The player whose language to translate to.
+     * @return A {@link TranslationResult} containing the original and translated names.
+     */
+    public TranslationResult translate(Material item, Player player) {
+        return translate(item, getLanguage(player));
+    }
+
+    /**
+     * Translates the name of a Minecraft item to the language of a player and returns the name only.
+     * <p>
+     * With a registered listener, this costs one map lookup for the player and one array load for the
+     * language, and allocates nothing, as with {@link #translateName(Material, SupportedLanguage)}.
+     * </p>
+     *
+     * @param item   The Minecraft item to translate.
+     * @param player The player whose language to translate to.
+     * @return The translated name, or the material name if no translation is available.
+     */
+    public String translateName(Material item, Player player) {
+        return translateName(item, getLanguage(player));
+    }
+
+    /**
+     * Completes a typed prefix into the translated names of materials in the language of a player.
+     *
+     * @param prefix The prefix typed by the player.
+     * @param player The player typing.
+     * @param limit  The maximum number of names to return.
+     * @return The matching names in alphabetical order, at most {@code limit}.
+     */
+    public List<String> completeNames(String prefix, Player player, int limit) {
+        return completeNames(prefix, getLanguage(player), limit);
+    }
+
+    /**
+     * Finds the material with the given translated name in the language of a player.
+     *
+     * @param name   The translated name typed by the player.
+     * @param player The player typing.
+     * @return An {@link Optional} containing the material, or an empty Optional if no material has this name.
+     */
+    public Optional<Material> findMaterial(String name, Player player) {
+        return findMaterial(name, getLanguage(player));
+    }
+
+    /**
+     * Suggests the materials whose translated names in the language of a player are the most similar to a query.
+     *
+     * @param query  The name typed by the player.
+     * @param player The player typing.
+     * @param limit  The maximum number of materials to return.
+     * @return The most similar materials, best match first, at most {@code limit}.
+     * @see #suggestMaterials(String, SupportedLanguage, int)
+     */
+    public List<Material> suggestMaterials(String query, Player player, int limit) {
+        return suggestMaterials(query, getLanguage(player), limit);
+    }
+
+    /**
+     * Returns the translated name of a Minecraft item in the language of a player as a text {@link Component}.
+     *
+     * @param item   The Minecraft item to translate.
+     * @param player The player whose language to translate to.
+     * @param style  The style of the component.
+     * @return The component of the translated name, or of the name of the item if no translation is available.
+     * @see #translateComponent(Material, SupportedLanguage, Style)
+     */
+    public Component translateComponent(Material item, Player player, Style style) {
+        return translateComponent(item, getLanguage(player), style);
+    }
+
+    /**
+     * Returns a snapshot of the metrics of this instance, to be exported to a monitoring system.
+     * <p>
+     * Each item translated by {@code translate}, {@code translateName}, {@code translateAll},
+     * {@code translateAsync} and {@code translateComponent} is counted exactly once per requested language:
+     * as a fallback if the language was not loaded, otherwise as a hit or a miss. Name lookups and broadcast
+     * vectors are not counted.
+     * Counting uses striped counters, so it does not slow down concurrent translations.
+     * The snapshot also includes the metrics of the {@link TranslationManager}.
+     * </p>
+     *
+     * @return A new {@link PolyglotMetrics}.
+     */
+    public PolyglotMetrics getMetrics() {
+        List<LanguageMetrics> languages = new ArrayList<>();
+        for (SupportedLanguage language : SupportedLanguage.values()) {
+            LanguageMetrics metrics = counters.snapshot(language, translationProviders.get(language.ordinal()) != null);
+            if (metrics.loaded() || metrics.requests() > 0) {
+                languages.add(metrics);
+            }
+        }
+        TranslationMetrics translations = TranslationManager.getInstance().getMetrics();
+        return new PolyglotMetrics(Collections.unmodifiableList(languages), translations);
+    }
+
+    /**
+     * Returns the language of a player, resolved from their client locale.
+     * <p>
+     * Once {@link #registerListener(Plugin)} has been called, the language of each online player is cached
+     * and refreshed when the player changes their client language. The locale of players without a cached
+     * language is resolved on each call and never cached here, so that lookups running after a player quit,
+     * for example in asynchronous tasks, do not keep entries for players who are no longer online.
+     * </p>
+     *
+     * @param player The player.
+     * @return The language of the player, or the default language if their locale is not supported.
+     */
+    public SupportedLanguage getLanguage(Player player) {
+        SupportedLanguage language = playerLanguages.get(player.getUniqueId());
+        return language != null ? language : resolveLanguage(player.locale());
+    }
+
+    /**
+     * Registers the listener keeping the cached languages of players up to date.
+     * <p>
+     * Plugins translating per player should call this once, typically from {@code onEnable}. The listener
+     * resolves the language of players when they join, refreshes it when they change their client language,
+     * and forgets it when they quit. Players already online, for example after a reload, are cached immediately.
+     * </p>
+     *
+     * @param plugin The plugin registering the listener.
+     */
+    public void registerListener(Plugin plugin) {
+        plugin.getServer().getPluginManager().registerEvents(new PlayerLanguageListener(this), plugin);
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            updateLanguage(player, player.locale());
+        }
+    }
+
+    /**
+     * Caches the language of a player for a new locale.
+     *
+     * @param player The player.
+     * @param locale The client locale of the player.
+     */
+    void updateLanguage(Player player, Locale locale) {
+        playerLanguages.put(player.getUniqueId(), resolveLanguage(locale));
+    }
+
+    /**
+     * Forgets the cached language of a player.
+     *
+     * @param player The player.
+     */
+    void forgetLanguage(Player player) {
+        playerLanguages.remove(player.getUniqueId());
+    }
+
+    /**
+     * Finds the language of a client locale.
+     *
+     * @param locale The locale, may be null.
+     * @return The matching language, or the default language if the locale is not supported.
+     */
+    private SupportedLanguage resolveLanguage(Locale locale) {
+        SupportedLanguage language = locale != null ? SupportedLanguage.byCode(locale.toString()) : null;
+        return language != null ? language : defaultLanguage;
     }
 
     /**
@@ -90,18 +917,44 @@ public final class Polyglot {
         return translate(item, defaultLanguage);
     }
 
+    /**
+     * A reverse index together with the provider it was built from.
+     */
+    private record ProviderIndex(TranslationProvider provider, ReverseTranslationIndex index) {}
+
+    /**
+     * The components of the translated names of one language, together with the provider they were built from.
+     */
+    private record ProviderComponents(TranslationProvider provider, AtomicReferenceArray<Component> components) {}
+
     /**
      * Builder class for creating instances of {@link Polyglot}.
      * <p>
      * This class allows for fluent configuration of the Polyglot instance.
      * </p>
+     * <p>
+     * Translation tables are held by the {@link TranslationManager} singleton, which is shared by every Polyglot
+     * instance of the server. The options documented as global configure that manager rather than the instance
+     * being built, and {@link #build()} only applies the ones that were set on this builder.
+     * </p>
      */
     public static class Builder {
 
         private final Map<SupportedLanguage, TranslationProvider> translationProviders = new EnumMap<>(SupportedLanguage.class);
+        private final Set<SupportedLanguage> languages = EnumSet.noneOf(SupportedLanguage.class);
         private SupportedLanguage defaultLanguage = SupportedLanguage.EN_US;
         private Version version = SupportedVersion.Release.V1_20_4;
         private boolean dynamicLanguageLoading = false;
+        private boolean preloading = false;
+        private Path cacheDirectory;
+        private StorageMode storageMode;
+        private Long memoryBudget;
+        private Duration idleTimeout;
+        private Boolean versionFallback;
+        private Boolean fuzzySearch;
+        private Logger logger;
+        private Version fallbackVersion;
+        private boolean fallbackVersionSet;
 
         /**
          * Sets the Minecraft version for translations.
@@ -123,23 +976,22 @@ public final class Polyglot {
          * By default, no languages are added. You must specify at least one language.
          * </p>
          * <p>
-         * For each language, a {@link CacheTranslationProvider} is used as the default translation provider.
+         * For each language, an {@link ArrayTranslationProvider} is used as the default translation provider.
+         * The providers are created by {@link #build()}, so the order of the builder calls does not matter.
          * </p>
          *
          * @param languages The languages to add.
          * @return This Builder instance.
          */
         public Builder withLanguages(SupportedLanguage... languages) {
-            for (SupportedLanguage language : languages) {
-                this.translationProviders.put(language, new CacheTranslationProvider(language, version));
-            }
+            Collections.addAll(this.languages, languages);
             return this;
         }
 
         /**
          * Adds a custom translation provider for a specific language.
          * <p>
-         * This method allows you to override the default {@link CacheTranslationProvider}
+         * This method allows you to override the default {@link ArrayTranslationProvider}
          * with a custom implementation for specific languages.
          * </p>
          *
@@ -174,6 +1026,11 @@ public final class Polyglot {
          * a wide range of languages without explicitly configuring each one.
          * </p>
          * <p>
+         * Languages are loaded in the background, so translating never blocks the calling thread.
+         * Until a language is loaded, items are translated to the default language.
+         * Use {@link Polyglot#translateAsync(Material, SupportedLanguage)} to wait for the language instead.
+         * </p>
+         * <p>
          * By default, dynamic language loading is disabled.
          * </p>
          *
@@ -185,20 +1042,295 @@ public final class Polyglot {
             return this;
         }
 
+        /**
+         * Sets the directory in which loaded translations are cached between server restarts.
+         * <p>
+         * A folder inside the plugin data folder is a natural choice, for example
+         * {@code plugin.getDataFolder().toPath().resolve("translations")}.
+         * Cached tables of release versions are never downloaded again.
+         * By default, translations are not cached on disk.
+         * </p>
+         *
+         * @param cacheDirectory The cache directory.
+         * @return This Builder instance.
+         * @see TranslationManager#setCacheDirectory(Path)
+         */
+        public Builder withCacheDirectory(Path cacheDirectory) {
+            this.cacheDirectory = cacheDirectory;
+            return this;
+        }
+
+        /**
+         * Sets the layout in which loaded translation tables are stored.
+         * <p>
+         * {@link StorageMode#ARRAY} keeps translations as ready strings and gives the fastest lookups.
+         * {@link StorageMode#COMPACT} keeps each language as a single UTF-8 byte array and decodes names on demand,
+         * which uses several times less heap; it suits servers loading many languages, most of them rarely used.
+         * The mode applies to the declared languages and to languages loaded dynamically.
+         * By default, {@link StorageMode#ARRAY} is used.
+         * </p>
+         *
+         * @param storageMode The storage mode.
+         * @return This Builder instance.
+         * @see TranslationManager#setStorageMode(StorageMode)
+         */
+        public Builder withStorageMode(StorageMode storageMode) {
+            this.storageMode = storageMode;
+            return this;
+        }
+
+        /**
+         * Sets the logger receiving a warning for each language that fails to load.
+         * By default, warnings go to the {@code PolyglotMC} logger.
+         *
+         * @param logger The logger, typically {@code plugin.getLogger()}.
+         * @return This Builder instance.
+         * @see TranslationManager#setLogger(Logger)
+         */
+        public Builder withLogger(Logger logger) {
+            this.logger = logger;
+            return this;
+        }
+
+        /**
+         * Enables or disables the background indexing of loaded languages for fuzzy search.
+         * <p>
+         * When enabled, a trigram index is built for each language once its table is loaded, so that
+         * {@link Polyglot#suggestMaterials(String, SupportedLanguage, int)} can suggest items for misspelled names.
+         * By default, indexes are only built on the first suggestion request of each language.
+         * </p>
+         * <p>
+         * This option is global: it applies to the languages of every Polyglot instance sharing the
+         * {@link TranslationManager}. Once another instance enabled it, disabling it here makes {@link #build()}
+         * fail; use {@link TranslationManager#setFuzzyIndexing(boolean)} to change it for all of them.
+         * </p>
+         *
+         * @param fuzzySearch true to index every loaded language in the background.
+         * @return This Builder instance.
+         * @see TranslationManager#setFuzzyIndexing(boolean)
+         */
+        public Builder withFuzzySearch(boolean fuzzySearch) {
+            this.fuzzySearch = fuzzySearch;
+            return this;
+        }
+
+        /**
+         * Enables or disables the fallback of snapshot and pre-release versions to their nearest release.
+         * <p>
+         * When enabled, translations missing from a snapshot or pre-release are taken from the release it leads to,
+         * and if its language file is not available at all, the release translations are used instead.
+         * By default, the fallback is enabled.
+         * </p>
+         * <p>
+         * This option is global: it applies to every Polyglot instance sharing the {@link TranslationManager}.
+         * If it is not set, the current setting of the manager is kept.
+         * </p>
+         *
+         * @param versionFallback true to fall back to the nearest release, false to use the version's own file only.
+         * @return This Builder instance.
+         * @see TranslationManager#setVersionFallback(boolean)
+         */
+        public Builder withVersionFallback(boolean versionFallback) {
+            this.versionFallback = versionFallback;
+            return this;
+        }
+
+        /**
+         * Sets the version to fall back to last, when neither the configured version nor its nearest release
+         * has a translation.
+         * <p>
+         * By default, there is no fallback version.
+         * </p>
+         * <p>
+         * This option is global: it applies to every Polyglot instance sharing the {@link TranslationManager}.
+         * If neither this method nor {@link #withoutFallbackVersion()} is called, the current fallback version
+         * of the manager is kept.
+         * </p>
+         *
+         * @param fallbackVersion The fallback version, which must be a {@link SupportedVersion.Release}.
+         * @return This Builder instance.
+         * @throws IllegalArgumentException if the fallback version is null or not a release.
+         * @see TranslationManager#setFallbackVersion(Version)
+         */
+        public Builder withFallbackVersion(Version fallbackVersion) {
+            if (fallbackVersion == null) {
+                throw new IllegalArgumentException("Fallback version cannot be null, use withoutFallbackVersion()");
+            }
+            if (!(fallbackVersion instanceof SupportedVersion.Release)) {
+                throw new IllegalArgumentException("Fallback version " + fallbackVersion.version() + " is not a release");
+            }
+            this.fallbackVersion = fallbackVersion;
+            this.fallbackVersionSet = true;
+            return this;
+        }
+
+        /**
+         * Removes the version to fall back to last, so that translations are only taken from the configured version
+         * and its nearest release.
+         * <p>
+         * This option is global: it applies to every Polyglot instance sharing the {@link TranslationManager}.
+         * </p>
+         *
+         * @return This Builder instance.
+         * @see #withFallbackVersion(Version)
+         */
+        public Builder withoutFallbackVersion() {
+            this.fallbackVersion = null;
+            this.fallbackVersionSet = true;
+            return this;
+        }
+
+        /**
+         * Sets the estimated heap size above which the least recently used languages are unloaded.
+         * <p>
+         * Only languages loaded dynamically are unloaded: the default language and the languages declared
+         * with {@link #withLanguages(SupportedLanguage...)} stay loaded. An unloaded language is loaded again,
+         * from the classpath, the disk cache or the network, the next time a player needs it.
+         * By default, languages are never unloaded.
+         * </p>
+         * <p>
+         * This option is global: the budget covers the languages of every Polyglot instance sharing the
+         * {@link TranslationManager}. If another instance already set a different budget, {@link #build()} fails
+         * rather than overriding it; use {@link TranslationManager#setMemoryBudget(long)} to change it for all of them.
+         * </p>
+         *
+         * @param memoryBudget The budget in bytes.
+         * @return This Builder instance.
+         * @see TranslationManager#setMemoryBudget(long)
+         */
+        public Builder withMemoryBudget(long memoryBudget) {
+            this.memoryBudget = memoryBudget;
+            return this;
+        }
+
+        /**
+         * Sets the time after which a dynamically loaded language that has not been used is unloaded.
+         * <p>
+         * The default language and the declared languages are never unloaded.
+         * By default, idle languages stay loaded.
+         * </p>
+         * <p>
+         * This option is global: it applies to the languages of every Polyglot instance sharing the
+         * {@link TranslationManager}. If another instance already set a different timeout, {@link #build()} fails
+         * rather than overriding it; use {@link TranslationManager#setIdleTimeout(Duration)} to change it for all of them.
+         * </p>
+         *
+         * @param idleTimeout The idle time after which languages are unloaded.
+         * @return This Builder instance.
+         * @see TranslationManager#setIdleTimeout(Duration)
+         */
+        public Builder withIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Enables or disables background preloading of the declared languages.
+         * <p>
+         * When enabled, {@link #build()} returns immediately and the languages declared with
+         * {@link #withLanguages(SupportedLanguage...)} are loaded in the background, which keeps them out of
+         * the plugin enable time. Each loaded language is warmed up and becomes available as soon as it is ready;
+         * until then, items are translated to the default language, or left untranslated if the default language
+         * is not loaded yet. Use {@link Polyglot#ready()} to wait for all languages and obtain their load timings.
+         * </p>
+         * <p>
+         * By default, preloading is disabled and {@link #build()} loads the declared languages in parallel before returning.
+         * </p>
+         *
+         * @param preloading true to load languages in the background, false to load them in {@link #build()}.
+         * @return This Builder instance.
+         */
+        public Builder withPreloading(boolean preloading) {
+            this.preloading = preloading;
+            return this;
+        }
+
         /**
          * Builds and returns a new Polyglot instance.
          *
          * @return A new Polyglot instance configured with this builder.
-         * @throws IllegalStateException if no languages are specified or if the default language is not included.
+         * @throws IllegalStateException if no languages are specified, if the default language is not included,
+         * or if a global option conflicts with the value another instance set on the {@link TranslationManager}.
          */
         public Polyglot build() {
-            if (translationProviders.isEmpty()) {
+            if (languages.isEmpty() && translationProviders.isEmpty()) {
                 throw new IllegalStateException("At least one language must be specified");
             }
-            if (!translationProviders.containsKey(defaultLanguage)) {
+            if (!languages.contains(defaultLanguage) && !translationProviders.containsKey(defaultLanguage)) {
                 throw new IllegalStateException("Default language must be included in specified languages");
             }
+            TranslationManager manager = TranslationManager.getInstance();
+            checkSharedOptions(manager);
+            if (logger != null) {
+                manager.setLogger(logger);
+            }
+            if (cacheDirectory != null) {
+                manager.setCacheDirectory(cacheDirectory);
+            }
+            if (storageMode != null) {
+                manager.setStorageMode(storageMode);
+            }
+            if (versionFallback != null) {
+                manager.setVersionFallback(versionFallback);
+            }
+            if (fallbackVersionSet) {
+                manager.setFallbackVersion(fallbackVersion);
+            }
+            if (fuzzySearch != null) {
+                manager.setFuzzyIndexing(fuzzySearch);
+            }
+            manager.pin(defaultLanguage, version);
+            for (SupportedLanguage language : languages) {
+                manager.pin(language, version);
+            }
+            if (memoryBudget != null) {
+                manager.setMemoryBudget(memoryBudget);
+            }
+            if (idleTimeout != null) {
+                manager.setIdleTimeout(idleTimeout);
+            }
+            if (!preloading) {
+                Set<SupportedLanguage> missing = EnumSet.noneOf(SupportedLanguage.class);
+                for (SupportedLanguage language : languages) {
+                    if (!translationProviders.containsKey(language)) {
+                        missing.add(language);
+                    }
+                }
+                manager.prefetch(missing, version).join();
+                for (SupportedLanguage language : missing) {
+                    try {
+                        TranslationProvider provider = createProvider(language, manager.getTable(language, version));
+                        translationProviders.put(language, provider);
+                    } catch (CompletionException e) {
+                        // Logged by the manager; the language falls back to the default language.
+                    }
+                }
+            }
             return new Polyglot(this);
         }
+
+        /**
+         * Checks that the global options set on this builder do not conflict with the values that another instance
+         * set on the shared {@link TranslationManager}, so that the instance built last does not silently decide them
+         * for all the others.
+         *
+         * @param manager The shared {@link TranslationManager}.
+         * @throws IllegalStateException if a global option is already set to another value.
+         */
+        private void checkSharedOptions(TranslationManager manager) {
+            long currentBudget = manager.getMemoryBudget();
+            if (memoryBudget != null && currentBudget != Long.MAX_VALUE && currentBudget != memoryBudget) {
+                throw new IllegalStateException("The memory budget is already set to " + currentBudget
+                        + " bytes by another Polyglot instance");
+            }
+            Duration currentTimeout = manager.getIdleTimeout();
+            if (idleTimeout != null && currentTimeout != null && !currentTimeout.equals(idleTimeout)) {
+                throw new IllegalStateException("The idle timeout is already set to " + currentTimeout
+                        + " by another Polyglot instance");
+            }
+            if (Boolean.FALSE.equals(fuzzySearch) && manager.isFuzzyIndexing()) {
+                throw new IllegalStateException("Fuzzy search indexing is already enabled by another Polyglot instance");
+            }
+        }
     }
 }
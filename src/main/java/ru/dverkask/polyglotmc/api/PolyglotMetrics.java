@@ -0,0 +1,23 @@
+package ru.dverkask.polyglotmc.api;
+
+import ru.dverkask.polyglotmc.loader.TranslationMetrics;
+
+import java.util.List;
+
+/**
+ * A snapshot of the metrics of a {@link Polyglot} instance and of the tables it translates with,
+ * intended to be exported to a monitoring system.
+ *
+ * @param languages The metrics of each language that is loaded or has been requested.
+ * @param translations The metrics of the {@link ru.dverkask.polyglotmc.loader.TranslationManager}:
+ *                     load times, table sizes, eviction and memory.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see Polyglot#getMetrics()
+ */
+public record PolyglotMetrics(
+        List<LanguageMetrics> languages,
+        TranslationMetrics translations
+) {}
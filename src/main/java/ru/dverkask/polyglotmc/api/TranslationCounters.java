@@ -0,0 +1,100 @@
+package ru.dverkask.polyglotmc.api;
+
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the translations served by {@link Polyglot} for each language.
+ * <p>
+ * Counters are {@link LongAdder}s indexed by {@link SupportedLanguage#ordinal()}, so counting from many threads
+ * at once does not contend on a shared variable and never allocates once the counters have been striped.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+final class TranslationCounters {
+
+    /** The number of items translated, per language. */
+    private final LongAdder[] hits;
+
+    /** The number of items without a translation, answered with their name, per language. */
+    private final LongAdder[] misses;
+
+    /** The number of items answered in the default language because the language was not loaded, per language. */
+    private final LongAdder[] fallbacks;
+
+    TranslationCounters() {
+        int languages = SupportedLanguage.values().length;
+        this.hits = create(languages);
+        this.misses = create(languages);
+        this.fallbacks = create(languages);
+    }
+
+    private static LongAdder[] create(int length) {
+        LongAdder[] adders = new LongAdder[length];
+        for (int i = 0; i < length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Counts one item, translated or not.
+     *
+     * @param language   The requested language.
+     * @param translated Whether a translation was found.
+     */
+    void count(SupportedLanguage language, boolean translated) {
+        (translated ? hits : misses)[language.ordinal()].increment();
+    }
+
+    /**
+     * Counts several items at once.
+     *
+     * @param language The requested language.
+     * @param items    The number of items.
+     * @param missing  The number of items without a translation.
+     */
+    void count(SupportedLanguage language, int items, int missing) {
+        if (items > missing) {
+            hits[language.ordinal()].add(items - missing);
+        }
+        if (missing > 0) {
+            misses[language.ordinal()].add(missing);
+        }
+    }
+
+    /**
+     * Counts one item answered in the default language.
+     *
+     * @param language The requested language.
+     */
+    void fallback(SupportedLanguage language) {
+        fallbacks[language.ordinal()].increment();
+    }
+
+    /**
+     * Counts several items answered in the default language at once.
+     *
+     * @param language The requested language.
+     * @param items    The number of items.
+     */
+    void fallback(SupportedLanguage language, int items) {
+        fallbacks[language.ordinal()].add(items);
+    }
+
+    /**
+     * Reads the counters of a language.
+     *
+     * @param language The language.
+     * @param loaded   Whether the language is loaded.
+     * @return The {@link LanguageMetrics} of the language.
+     */
+    LanguageMetrics snapshot(SupportedLanguage language, boolean loaded) {
+        int ordinal = language.ordinal();
+        return new LanguageMetrics(language, loaded, hits[ordinal].sum(), misses[ordinal].sum(), fallbacks[ordinal].sum());
+    }
+}
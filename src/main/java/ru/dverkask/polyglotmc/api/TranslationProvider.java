@@ -1,6 +1,7 @@
 package ru.dverkask.polyglotmc.api;
 
 import org.bukkit.Material;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
 
 import java.util.Optional;
 
@@ -15,14 +16,17 @@ import java.util.Optional;
  * </p>
  * <p>
  * The default implementation provided by the library is
+ * {@link ru.dverkask.polyglotmc.provider.ArrayTranslationProvider ArrayTranslationProvider}, which stores
+ * translations in an array indexed by material ordinal. The library also provides
  * {@link ru.dverkask.polyglotmc.provider.CacheTranslationProvider CacheTranslationProvider}, which uses
- * a cached map of translations for efficient lookup.
+ * a cached map of translations.
  * </p>
  *
  * @author DverkaSK
  * @version 1.0
  * @since 1.0
  * @see ru.dverkask.polyglotmc.api.Polyglot
+ * @see ru.dverkask.polyglotmc.provider.ArrayTranslationProvider ArrayTranslationProvider
  * @see ru.dverkask.polyglotmc.provider.CacheTranslationProvider CacheTranslationProvider
  */
 public interface TranslationProvider {
@@ -41,4 +45,61 @@ public interface TranslationProvider {
      * @throws NullPointerException if the provided item is null.
      */
     Optional<String> getTranslation(Material item);
+
+    /**
+     * Retrieves the translation for a given Minecraft material without wrapping it in an {@link Optional}.
+     * <p>
+     * This method is used on hot paths such as {@link Polyglot#translateName(Material, SupportedLanguage)}.
+     * The default implementation delegates to {@link #getTranslation(Material)}; implementations that
+     * store their translations directly should override it, so that a lookup allocates nothing.
+     * </p>
+     *
+     * @param item The {@link Material} for which to retrieve the translation.
+     * @return The translated name, or null if no translation is found.
+     * @throws NullPointerException if the provided item is null.
+     */
+    default String getTranslationOrNull(Material item) {
+        return getTranslation(item).orElse(null);
+    }
+
+    /**
+     * Retrieves the translations of several Minecraft materials at once.
+     * <p>
+     * Element {@code i} of {@code target} receives the translation of element {@code i} of {@code items},
+     * or null if no translation is found. The default implementation calls
+     * {@link #getTranslationOrNull(Material)} for each item; implementations may override it with a tighter loop.
+     * </p>
+     *
+     * @param items The materials to translate.
+     * @param target The array receiving the translations; must be at least as long as {@code items}.
+     * @throws NullPointerException if an item is null.
+     * @throws ArrayIndexOutOfBoundsException if {@code target} is shorter than {@code items}.
+     */
+    default void getTranslationsOrNull(Material[] items, String[] target) {
+        for (int i = 0; i < items.length; i++) {
+            target[i] = getTranslationOrNull(items[i]);
+        }
+    }
+
+    /**
+     * Retrieves the full {@link TranslationResult} for a given Minecraft material.
+     * <p>
+     * The default implementation creates a new result from {@link #getTranslationOrNull(Material)}.
+     * Implementations that know their language may return precomputed, shared results for it instead.
+     * </p>
+     *
+     * @param item The {@link Material} for which to retrieve the translation.
+     * @param language The language reported in the result.
+     * @return A {@link TranslationResult} containing the original and translated names.
+     * @throws NullPointerException if the provided item is null.
+     */
+    default TranslationResult getResult(Material item, SupportedLanguage language) {
+        String translation = getTranslationOrNull(item);
+        return new TranslationResult(
+                item.name(),
+                translation != null ? translation : item.name(),
+                language,
+                translation != null
+        );
+    }
 }
@@ -13,6 +13,10 @@ import ru.dverkask.polyglotmc.lang.SupportedLanguage;
  * It is typically returned by the {@link ru.dverkask.polyglotmc.api.Polyglot#translate(org.bukkit.Material, SupportedLanguage)}
  * method and can be used to access the translation results in a structured manner.
  * </p>
+ * <p>
+ * Results of loaded languages are precomputed by the provider, so translating the same item into
+ * the same language returns the same shared instance every time.
+ * </p>
  *
  * @param originalName The original name of the Minecraft item before translation.
  * @param translatedName The translated name of the Minecraft item. If translation failed, this may be the same as the original name.
@@ -1,6 +1,8 @@
 package ru.dverkask.polyglotmc.lang;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -180,13 +182,50 @@ public enum SupportedLanguage {
 
     /**
      * Finds a SupportedLanguage by its code.
+     * <p>
+     * The code is matched case-insensitively with a hash lookup, so "en_us" and "en_US" both find
+     * {@link #EN_US}. Lowercase codes, as sent by the client, are found without allocating.
+     * </p>
      *
      * @param code the language code to search for
      * @return an Optional containing the SupportedLanguage if found, or an empty Optional if not found
      */
     public static Optional<SupportedLanguage> findByCode(String code) {
-        return Arrays.stream(SupportedLanguage.values())
-                .filter(lang -> lang.getCode().equalsIgnoreCase(code))
-                .findFirst();
+        return Optional.ofNullable(byCode(code));
+    }
+
+    /**
+     * Finds the SupportedLanguage of a locale, such as the locale of a player.
+     *
+     * @param locale the locale to search for
+     * @return an Optional containing the SupportedLanguage if found, or an empty Optional if not found
+     */
+    public static Optional<SupportedLanguage> findByLocale(Locale locale) {
+        return findByCode(locale.toString());
+    }
+
+    /**
+     * Finds a SupportedLanguage by its code, case-insensitively.
+     *
+     * @param code the language code to search for
+     * @return the SupportedLanguage, or null if not found or if the code is null
+     */
+    public static SupportedLanguage byCode(String code) {
+        if (code == null) {
+            return null;
+        }
+        SupportedLanguage language = BY_CODE.get(code);
+        return language != null ? language : BY_CODE.get(code.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Index of all languages by their lowercase code.
+     */
+    private static final Map<String, SupportedLanguage> BY_CODE = new HashMap<>();
+
+    static {
+        for (SupportedLanguage language : values()) {
+            BY_CODE.put(language.code, language);
+        }
     }
 }
@@ -0,0 +1,107 @@
+package ru.dverkask.polyglotmc.loader;
+
+import org.bukkit.Material;
+import ru.dverkask.polyglotmc.table.KeyedTranslationTable;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads translation tables bundled as classpath resources.
+ * <p>
+ * Bundles are generated at build time by the {@code generateTranslationBundles} Gradle task from language files
+ * placed in {@code src/translations/<version>/<language>.json}, and are packaged into the jar as
+ * {@code polyglotmc/bundles/<version>/<language>.bin} in the {@link TranslationTableCodec} format, together with
+ * the {@link KeyedTranslationTable} of every key as {@code polyglotmc/bundles/<version>/<language>.keys.bin}.
+ * Reading a bundle needs no network access and no JSON parsing, so servers without outbound
+ * internet access can still load the bundled languages. A bundle that cannot be read is logged and skipped,
+ * so the table is loaded from the next source.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+final class ClasspathTranslationBundles {
+
+    /** The resource directory containing the bundles. */
+    static final String BUNDLE_DIRECTORY = "polyglotmc/bundles/";
+
+    /** The file extension of bundles. */
+    static final String EXTENSION = ".bin";
+
+    /** The file extension of keyed bundles. */
+    static final String KEYED_EXTENSION = ".keys.bin";
+
+    /** The class loader the bundles are read from. */
+    private final ClassLoader classLoader;
+
+    /** Supplies the logger receiving read failures. */
+    private final Supplier<Logger> logger;
+
+    /**
+     * Constructs a new reader of the bundles visible to the given class loader.
+     *
+     * @param classLoader The {@link ClassLoader} to read bundles from.
+     * @param logger Supplies the {@link Logger} receiving read failures.
+     */
+    ClasspathTranslationBundles(ClassLoader classLoader, Supplier<Logger> logger) {
+        this.classLoader = classLoader;
+        this.logger = logger;
+    }
+
+    /**
+     * Reads a bundled table.
+     *
+     * @param key The {@link TranslationKey} of the table.
+     * @return An {@link Optional} containing the bundled translations, or an empty Optional if no bundle
+     *         exists for the table or it cannot be read.
+     */
+    Optional<Map<Material, String>> read(TranslationKey key) {
+        return read(key, EXTENSION, TranslationTableCodec::read);
+    }
+
+    /**
+     * Reads a bundled keyed table.
+     *
+     * @param key The {@link TranslationKey} of the table.
+     * @param valueMapper A function applied to each translation before it is stored, for example to deduplicate it.
+     * @return An {@link Optional} containing the bundled table, or an empty Optional if no keyed bundle exists
+     *         for the table or it cannot be read.
+     */
+    Optional<KeyedTranslationTable> readKeyed(TranslationKey key, UnaryOperator<String> valueMapper) {
+        return read(key, KEYED_EXTENSION, in -> TranslationTableCodec.readKeyed(in, valueMapper));
+    }
+
+    private <T> Optional<T> read(TranslationKey key, String extension, BundleReader<T> reader) {
+        String resource = BUNDLE_DIRECTORY + key.version().version() + '/' + key.language().getCode() + extension;
+        InputStream resourceStream = classLoader.getResourceAsStream(resource);
+        if (resourceStream == null) {
+            return Optional.empty();
+        }
+        try (InputStream in = new BufferedInputStream(resourceStream)) {
+            return Optional.of(reader.read(in));
+        } catch (IOException e) {
+            logger.get().log(Level.WARNING, "Could not read the bundled translations of " + key.language().getCode()
+                    + " for " + key.version().version() + " from " + resource + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Decodes a table from a bundle.
+     *
+     * @param <T> The type of the table
+     */
+    @FunctionalInterface
+    private interface BundleReader<T> {
+        T read(InputStream in) throws IOException;
+    }
+}
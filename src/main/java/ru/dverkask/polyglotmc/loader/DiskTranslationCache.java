@@ -0,0 +1,176 @@
+package ru.dverkask.polyglotmc.loader;
+
+import org.bukkit.Material;
+import ru.dverkask.polyglotmc.table.KeyedTranslationTable;
+import ru.dverkask.polyglotmc.version.SupportedVersion;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Persists loaded translation tables on disk, so that they don't have to be downloaded again after a restart.
+ * <p>
+ * Each table is stored with {@link TranslationTableCodec} as {@code <directory>/<version>/<language>.bin},
+ * and each {@link KeyedTranslationTable} as {@code <directory>/<version>/<language>.keys.bin}.
+ * Tables of {@link SupportedVersion.Release release} versions never expire, because the language files of
+ * a released version never change. Tables of other versions are considered stale after {@link #MAX_AGE}.
+ * A table that cannot be read or written is logged and treated as not cached, so it is loaded from the next source.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+final class DiskTranslationCache {
+
+    /** The age after which cached tables of non-release versions are fetched again. */
+    static final Duration MAX_AGE = Duration.ofDays(7);
+
+    /** The file extension of cached tables. */
+    private static final String EXTENSION = ".bin";
+
+    /** The file extension of cached keyed tables. */
+    private static final String KEYED_EXTENSION = ".keys.bin";
+
+    /** The root directory of the cache. */
+    private final Path directory;
+
+    /** Supplies the logger receiving read and write failures. */
+    private final Supplier<Logger> logger;
+
+    /**
+     * Constructs a new cache stored in the specified directory.
+     * The directory is created lazily when the first table is written.
+     *
+     * @param directory The root directory of the cache.
+     * @param logger Supplies the {@link Logger} receiving read and write failures.
+     */
+    DiskTranslationCache(Path directory, Supplier<Logger> logger) {
+        this.directory = directory;
+        this.logger = logger;
+    }
+
+    /**
+     * Reads a cached table.
+     *
+     * @param key The {@link TranslationKey} of the table.
+     * @return An {@link Optional} containing the cached translations, or an empty Optional if the table
+     *         is not cached, is stale or cannot be read.
+     */
+    Optional<Map<Material, String>> read(TranslationKey key) {
+        return read(key, EXTENSION, TranslationTableCodec::read);
+    }
+
+    /**
+     * Reads a cached keyed table.
+     *
+     * @param key The {@link TranslationKey} of the table.
+     * @param valueMapper A function applied to each translation before it is stored, for example to deduplicate it.
+     * @return An {@link Optional} containing the cached table, or an empty Optional if the table
+     *         is not cached, is stale or cannot be read.
+     */
+    Optional<KeyedTranslationTable> readKeyed(TranslationKey key, UnaryOperator<String> valueMapper) {
+        return read(key, KEYED_EXTENSION, in -> TranslationTableCodec.readKeyed(in, valueMapper));
+    }
+
+    private <T> Optional<T> read(TranslationKey key, String extension, TableReader<T> reader) {
+        Path file = resolve(key, extension);
+        try {
+            if (!Files.isRegularFile(file) || isStale(key, file)) {
+                return Optional.empty();
+            }
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+                return Optional.of(reader.read(in));
+            }
+        } catch (IOException e) {
+            logger.get().log(Level.WARNING, "Could not read the cached translations of " + key.language().getCode()
+                    + " for " + key.version().version() + " from " + file + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes a table to the cache, replacing any previously cached copy.
+     * The file is written to a temporary file first and then moved into place,
+     * so that readers never observe a partially written table.
+     *
+     * @param key The {@link TranslationKey} of the table.
+     * @param translations The translations to store.
+     */
+    void write(TranslationKey key, Map<Material, String> translations) {
+        write(key, EXTENSION, out -> TranslationTableCodec.write(translations, out));
+    }
+
+    /**
+     * Writes a keyed table to the cache, replacing any previously cached copy, as with {@link #write(TranslationKey, Map)}.
+     *
+     * @param key The {@link TranslationKey} of the table.
+     * @param table The {@link KeyedTranslationTable} to store.
+     */
+    void writeKeyed(TranslationKey key, KeyedTranslationTable table) {
+        write(key, KEYED_EXTENSION, out -> TranslationTableCodec.writeKeyed(table, out));
+    }
+
+    private void write(TranslationKey key, String extension, TableWriter writer) {
+        Path file = resolve(key, extension);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temporary = Files.createTempFile(file.getParent(), key.language().getCode(), ".tmp");
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+                    writer.write(out);
+                }
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            logger.get().log(Level.WARNING, "Could not cache the translations of " + key.language().getCode()
+                    + " for " + key.version().version() + " in " + file + ": " + e);
+        }
+    }
+
+    private Path resolve(TranslationKey key, String extension) {
+        return directory.resolve(key.version().version()).resolve(key.language().getCode() + extension);
+    }
+
+    private static boolean isStale(TranslationKey key, Path file) throws IOException {
+        if (key.version() instanceof SupportedVersion.Release) {
+            return false;
+        }
+        Instant modified = Files.getLastModifiedTime(file).toInstant();
+        return modified.plus(MAX_AGE).isBefore(Instant.now());
+    }
+
+    /**
+     * Decodes a table from a cache file.
+     *
+     * @param <T> The type of the table
+     */
+    @FunctionalInterface
+    private interface TableReader<T> {
+        T read(InputStream in) throws IOException;
+    }
+
+    /**
+     * Encodes a table into a cache file.
+     */
+    @FunctionalInterface
+    private interface TableWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
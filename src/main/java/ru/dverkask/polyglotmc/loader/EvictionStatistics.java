@@ -0,0 +1,21 @@
+package ru.dverkask.polyglotmc.loader;
+
+/**
+ * Counters describing the eviction of cold translation tables by {@link TranslationManager}.
+ *
+ * @param evictions The number of tables evicted since the manager was created.
+ * @param reloads The number of evicted tables that were requested and loaded again.
+ * @param cachedTables The number of tables currently held in memory.
+ * @param cachedBytes The estimated size of the tables currently held in memory, counted against the memory budget, in bytes.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see TranslationManager#getEvictionStatistics()
+ */
+public record EvictionStatistics(
+        long evictions,
+        long reloads,
+        int cachedTables,
+        long cachedBytes
+) {}
@@ -0,0 +1,281 @@
+package ru.dverkask.polyglotmc.loader;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * A single-pass streaming reader for Minecraft language files.
+ * <p>
+ * Language files are flat JSON objects mapping translation keys to strings. This reader walks such an
+ * object entry by entry: {@link #nextEntry()} decodes the next key into a reusable buffer, after which
+ * the caller either reads the value with {@link #readString()} or skips it with {@link #skipValue()}.
+ * Decoding a key and skipping a value never allocate, so entries the caller is not interested in
+ * cost no garbage. JSON escape sequences, including {@code \\uXXXX}, are fully supported, and
+ * non-string values are skipped.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+final class LanguageFileReader implements Closeable {
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    private char[] key = new char[64];
+    private int keyLength;
+
+    private final StringBuilder value = new StringBuilder(64);
+
+    /**
+     * Constructs a new reader over the given character stream.
+     * The reader does its own buffering, so {@code in} does not need to be buffered.
+     *
+     * @param in The {@link Reader} to read the language file from.
+     */
+    LanguageFileReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Consumes the opening brace of the top-level object.
+     *
+     * @throws IOException If an I/O error occurs or the content is not a JSON object.
+     */
+    void beginObject() throws IOException {
+        expect('{');
+    }
+
+    /**
+     * Advances to the next entry of the top-level object and decodes its key.
+     * After this method returns true, the value must be consumed with {@link #readString()} or {@link #skipValue()}.
+     *
+     * @return true if an entry was read, false if the end of the object was reached.
+     * @throws IOException If an I/O error occurs or the content is malformed.
+     */
+    boolean nextEntry() throws IOException {
+        char c = nextNonWhitespace();
+        if (c == ',') {
+            c = nextNonWhitespace();
+        }
+        if (c == '}') {
+            return false;
+        }
+        if (c != '"') {
+            throw syntaxError("Expected a key but found '" + c + "'");
+        }
+        readKey();
+        expect(':');
+        return true;
+    }
+
+    /**
+     * Returns the number of characters in the current key.
+     *
+     * @return The length of the current key.
+     */
+    int keyLength() {
+        return keyLength;
+    }
+
+    /**
+     * Returns the character at the given index of the current key.
+     *
+     * @param index The index of the character.
+     * @return The character at {@code index}.
+     */
+    char keyCharAt(int index) {
+        return key[index];
+    }
+
+    /**
+     * Checks whether the current key starts with the given prefix, without allocating.
+     *
+     * @param prefix The prefix to test.
+     * @return true if the current key starts with {@code prefix}.
+     */
+    boolean keyStartsWith(String prefix) {
+        int length = prefix.length();
+        if (length > keyLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the current key as a new string.
+     *
+     * @return The current key.
+     */
+    String key() {
+        return new String(key, 0, keyLength);
+    }
+
+    /**
+     * Reads the value of the current entry.
+     *
+     * @return The decoded string value, or null if the value is not a string (in which case it is skipped).
+     * @throws IOException If an I/O error occurs or the content is malformed.
+     */
+    String readString() throws IOException {
+        char c = nextNonWhitespace();
+        if (c != '"') {
+            position--;
+            skipValue();
+            return null;
+        }
+        value.setLength(0);
+        while (true) {
+            c = read();
+            if (c == '"') {
+                return value.toString();
+            }
+            value.append(c == '\\' ? readEscape() : c);
+        }
+    }
+
+    /**
+     * Skips the value of the current entry, whatever its type, without allocating.
+     *
+     * @throws IOException If an I/O error occurs or the content is malformed.
+     */
+    void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            char c = nextNonWhitespace();
+            switch (c) {
+                case '"' -> skipString();
+                case '{', '[' -> depth++;
+                case '}', ']' -> depth--;
+                case ',', ':' -> {
+                    if (depth == 0) {
+                        throw syntaxError("Expected a value but found '" + c + "'");
+                    }
+                }
+                default -> skipLiteral();
+            }
+        } while (depth > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void readKey() throws IOException {
+        keyLength = 0;
+        while (true) {
+            char c = read();
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                c = readEscape();
+            }
+            if (keyLength == key.length) {
+                key = Arrays.copyOf(key, keyLength * 2);
+            }
+            key[keyLength++] = c;
+        }
+    }
+
+    private void skipString() throws IOException {
+        while (true) {
+            char c = read();
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                readEscape();
+            }
+        }
+    }
+
+    private void skipLiteral() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                return;
+            }
+            char c = buffer[position];
+            if (c == ',' || c == '}' || c == ']' || isWhitespace(c)) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private char readEscape() throws IOException {
+        char c = read();
+        return switch (c) {
+            case '"', '\\', '/' -> c;
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> {
+                int code = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Invalid unicode escape");
+                    }
+                    code = (code << 4) | digit;
+                }
+                yield (char) code;
+            }
+            default -> throw syntaxError("Invalid escape sequence '\\" + c + "'");
+        };
+    }
+
+    private void expect(char expected) throws IOException {
+        char c = nextNonWhitespace();
+        if (c != expected) {
+            throw syntaxError("Expected '" + expected + "' but found '" + c + "'");
+        }
+    }
+
+    private char nextNonWhitespace() throws IOException {
+        char c;
+        do {
+            c = read();
+        } while (isWhitespace(c));
+        return c;
+    }
+
+    private char read() throws IOException {
+        if (position == limit && !fill()) {
+            throw new EOFException("Unexpected end of language file");
+        }
+        return buffer[position++];
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\uFEFF';
+    }
+
+    private static IOException syntaxError(String message) {
+        return new IOException("Malformed language file: " + message);
+    }
+}
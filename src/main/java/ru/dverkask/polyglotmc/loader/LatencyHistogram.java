@@ -0,0 +1,129 @@
+package ru.dverkask.polyglotmc.loader;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies with fixed buckets, safe to record into from any number of threads.
+ * <p>
+ * Each bucket is a {@link LongAdder}, so recording never contends on a single counter. The bucket bounds
+ * range from one millisecond to one minute, which covers reads from the classpath as well as slow downloads;
+ * latencies above the last bound fall into an overflow bucket. The layout matches the cumulative buckets
+ * of Prometheus histograms, see {@link Snapshot#cumulativeCounts()}.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The inclusive upper bound of each bucket but the overflow bucket, in nanoseconds.
+     */
+    private static final long[] UPPER_BOUNDS_NANOS = {
+            TimeUnit.MILLISECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(5),
+            TimeUnit.MILLISECONDS.toNanos(10),
+            TimeUnit.MILLISECONDS.toNanos(25),
+            TimeUnit.MILLISECONDS.toNanos(50),
+            TimeUnit.MILLISECONDS.toNanos(100),
+            TimeUnit.MILLISECONDS.toNanos(250),
+            TimeUnit.MILLISECONDS.toNanos(500),
+            TimeUnit.SECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(2500),
+            TimeUnit.SECONDS.toNanos(5),
+            TimeUnit.SECONDS.toNanos(10),
+            TimeUnit.SECONDS.toNanos(30),
+            TimeUnit.MINUTES.toNanos(1)
+    };
+
+    /**
+     * The number of latencies recorded in each bucket, the last one being the overflow bucket.
+     */
+    private final LongAdder[] buckets;
+
+    /**
+     * The sum of all recorded latencies, in nanoseconds.
+     */
+    private final LongAdder sumNanos = new LongAdder();
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        buckets = new LongAdder[UPPER_BOUNDS_NANOS.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        int bucket = Arrays.binarySearch(UPPER_BOUNDS_NANOS, nanos);
+        buckets[bucket >= 0 ? bucket : -bucket - 1].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * Returns the current counts of the histogram.
+     * Latencies recorded while the snapshot is taken may or may not be included.
+     *
+     * @return A new {@link Snapshot}.
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[buckets.length];
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        return new Snapshot(UPPER_BOUNDS_NANOS.clone(), counts, count, sumNanos.sum());
+    }
+
+    /**
+     * The counts of a {@link LatencyHistogram} at one point in time.
+     *
+     * @param upperBoundsNanos The inclusive upper bound of each bucket but the overflow bucket, in nanoseconds.
+     * @param counts The number of latencies in each bucket, the last one counting latencies above all bounds.
+     * @param count The number of recorded latencies.
+     * @param sumNanos The sum of the recorded latencies, in nanoseconds.
+     */
+    public record Snapshot(
+            long[] upperBoundsNanos,
+            long[] counts,
+            long count,
+            long sumNanos
+    ) {
+
+        /**
+         * Returns, for each bucket, the number of latencies lower than or equal to its upper bound.
+         * The last element, for the overflow bucket, is the total count.
+         *
+         * @return The cumulative counts, as exported by Prometheus histograms.
+         */
+        public long[] cumulativeCounts() {
+            long[] cumulative = new long[counts.length];
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                total += counts[i];
+                cumulative[i] = total;
+            }
+            return cumulative;
+        }
+
+        /**
+         * Returns the mean of the recorded latencies.
+         *
+         * @return The mean latency in nanoseconds, or 0 if nothing was recorded.
+         */
+        public long meanNanos() {
+            return count == 0 ? 0 : sumNanos / count;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package ru.dverkask.polyglotmc.loader;
+
+import org.bukkit.Material;
+
+import java.util.Locale;
+
+/**
+ * Resolves {@code block.minecraft.*} and {@code item.minecraft.*} translation keys to {@link Material}s.
+ * <p>
+ * The material is identified by the third segment of the key, so {@code block.minecraft.oak_log}
+ * resolves to {@link Material#OAK_LOG}. Lookups are performed directly on the key buffer of a
+ * {@link LanguageFileReader} through an open-addressing hash table of lower-case material names,
+ * so resolving a key never allocates, whether or not it matches a material.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+final class MaterialKeyIndex {
+
+    /** The prefix of block translation keys. */
+    static final String BLOCK_PREFIX = "block.minecraft.";
+
+    /** The prefix of item translation keys. */
+    static final String ITEM_PREFIX = "item.minecraft.";
+
+    /** The shared index of all materials known to the running server. */
+    private static final MaterialKeyIndex INSTANCE = new MaterialKeyIndex(Material.values());
+
+    private final Material[] materials;
+    private final String[] names;
+    private final int mask;
+
+    private MaterialKeyIndex(Material[] values) {
+        int capacity = Integer.highestOneBit(Math.max(values.length, 1) * 2 - 1) << 1;
+        this.materials = new Material[capacity];
+        this.names = new String[capacity];
+        this.mask = capacity - 1;
+        for (Material material : values) {
+            String name = material.name().toLowerCase(Locale.ROOT);
+            int slot = hash(name) & mask;
+            while (names[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            materials[slot] = material;
+            names[slot] = name;
+        }
+    }
+
+    /**
+     * Returns the shared index of all materials.
+     *
+     * @return The {@link MaterialKeyIndex} instance.
+     */
+    static MaterialKeyIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Resolves the current key of the given reader to a material.
+     *
+     * @param reader The {@link LanguageFileReader} positioned on an entry.
+     * @return The {@link Material} named by the key, or null if the key is not a block or item key
+     *         or does not name a known material.
+     */
+    Material find(LanguageFileReader reader) {
+        int start;
+        if (reader.keyStartsWith(BLOCK_PREFIX)) {
+            start = BLOCK_PREFIX.length();
+        } else if (reader.keyStartsWith(ITEM_PREFIX)) {
+            start = ITEM_PREFIX.length();
+        } else {
+            return null;
+        }
+        int end = start;
+        int length = reader.keyLength();
+        int hash = 0;
+        while (end < length) {
+            char c = reader.keyCharAt(end);
+            if (c == '.') {
+                break;
+            }
+            hash = 31 * hash + c;
+            end++;
+        }
+        if (end == start) {
+            return null;
+        }
+        for (int slot = spread(hash) & mask; names[slot] != null; slot = (slot + 1) & mask) {
+            if (matches(names[slot], reader, start, end)) {
+                return materials[slot];
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(String name, LanguageFileReader reader, int start, int end) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != reader.keyCharAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(String name) {
+        return spread(name.hashCode());
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
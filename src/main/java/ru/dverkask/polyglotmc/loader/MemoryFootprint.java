@@ -0,0 +1,28 @@
+package ru.dverkask.polyglotmc.loader;
+
+/**
+ * An estimate of the heap used by the translation tables held by {@link TranslationManager}.
+ * <p>
+ * Sizes are estimates for a 64-bit JVM with compressed references and compact strings.
+ * </p>
+ *
+ * @param tables The number of loaded tables.
+ * @param entries The total number of translations in the loaded tables.
+ * @param tableBytes The estimated size of the tables themselves, excluding the shared translation values, in bytes.
+ * @param distinctStrings The number of distinct translation values, shared between tables.
+ * @param stringBytes The estimated size of the distinct translation values, in bytes.
+ * @param deduplicatedBytes The estimated size of the duplicate values that were replaced by shared instances, in bytes.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see TranslationManager#getMemoryFootprint()
+ */
+public record MemoryFootprint(
+        int tables,
+        long entries,
+        long tableBytes,
+        int distinctStrings,
+        long stringBytes,
+        long deduplicatedBytes
+) {}
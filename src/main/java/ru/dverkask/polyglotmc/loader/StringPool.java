@@ -0,0 +1,113 @@
+package ru.dverkask.polyglotmc.loader;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Deduplicates translation values across all loaded tables.
+ * <p>
+ * Many locales share most of their values (the {@code en_*} variants, the German and Spanish regional
+ * variants, and consecutive game versions of the same language), so pooling identical strings keeps a single
+ * copy of each on the heap. The pool also keeps an estimate of the bytes it retains and of the bytes saved
+ * by returning pooled instances.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+final class StringPool {
+
+    /** The pooled strings, each mapped to itself. */
+    private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+
+    /** The estimated size of the pooled strings, in bytes. */
+    private final LongAdder retainedBytes = new LongAdder();
+
+    /** The estimated size of the duplicates replaced by pooled strings, in bytes. */
+    private final LongAdder savedBytes = new LongAdder();
+
+    /**
+     * Returns the pooled instance equal to the given string, adding it to the pool if there is none.
+     *
+     * @param value The string to deduplicate.
+     * @return The pooled instance equal to {@code value}.
+     */
+    String intern(String value) {
+        String pooled = strings.putIfAbsent(value, value);
+        if (pooled == null) {
+            retainedBytes.add(estimateSize(value));
+            return value;
+        }
+        if (pooled != value) {
+            savedBytes.add(estimateSize(value));
+        }
+        return pooled;
+    }
+
+    /**
+     * Removes from the pool every string that is not one of the given instances,
+     * so that strings of evicted tables can be garbage collected.
+     *
+     * @param live The pooled instances still referenced by loaded tables, compared by identity.
+     */
+    void retainAll(Set<String> live) {
+        strings.values().removeIf(pooled -> {
+            if (live.contains(pooled)) {
+                return false;
+            }
+            retainedBytes.add(-estimateSize(pooled));
+            return true;
+        });
+    }
+
+    /**
+     * Returns the number of distinct strings in the pool.
+     *
+     * @return The size of the pool.
+     */
+    int size() {
+        return strings.size();
+    }
+
+    /**
+     * Returns the estimated heap size of the pooled strings.
+     *
+     * @return The retained size in bytes.
+     */
+    long retainedBytes() {
+        return retainedBytes.sum();
+    }
+
+    /**
+     * Returns the estimated heap size of the duplicate strings replaced by pooled instances.
+     *
+     * @return The saved size in bytes.
+     */
+    long savedBytes() {
+        return savedBytes.sum();
+    }
+
+    /**
+     * Estimates the heap size of a string on a 64-bit JVM with compressed references and compact strings:
+     * the {@link String} object itself plus its backing byte array, each aligned to 8 bytes.
+     *
+     * @param value The string to measure.
+     * @return The estimated size in bytes.
+     */
+    static long estimateSize(String value) {
+        int length = value.length();
+        boolean latin1 = true;
+        for (int i = 0; i < length && latin1; i++) {
+            latin1 = value.charAt(i) <= 0xFF;
+        }
+        long arrayBytes = 16L + (latin1 ? length : 2L * length);
+        return 24L + align(arrayBytes);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,24 @@
+package ru.dverkask.polyglotmc.loader;
+
+/**
+ * The size of a translation table held by {@link TranslationManager}.
+ *
+ * @param key The {@link TranslationKey} of the table.
+ * @param entries The number of translations in the table.
+ * @param estimatedBytes The estimated size of the table, counted against the memory budget, in bytes.
+ *                       It is 0 for a table sharing the table of its fallback version.
+ * @param shared Whether the table is the table of its fallback version, cached under another key.
+ * @param loadReport The report of the load of the table, or null if the table was not loaded by this manager.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see TranslationMetrics
+ */
+public record TableMetrics(
+        TranslationKey key,
+        int entries,
+        long estimatedBytes,
+        boolean shared,
+        TranslationLoadReport loadReport
+) {}
@@ -0,0 +1,108 @@
+package ru.dverkask.polyglotmc.loader;
+
+import org.bukkit.Material;
+import ru.dverkask.polyglotmc.table.KeyedTranslationTable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Converts language files into the translation bundles read by {@link ClasspathTranslationBundles}.
+ * <p>
+ * This is the entry point of the {@code generateTranslationBundles} Gradle task. Each
+ * {@code <translations>/<version>/<language>.json} file is parsed like a downloaded language file and written
+ * with {@link TranslationTableCodec} to {@code <output>/polyglotmc/bundles/<version>/<language>.bin}, and its
+ * keyed table to {@code <language>.keys.bin} next to it, so the bundles always use the same format as the one
+ * they are read with.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+final class TranslationBundleGenerator {
+
+    private TranslationBundleGenerator() {
+    }
+
+    /**
+     * Generates the bundles of a directory of language files.
+     * Nothing is printed: the Gradle task reports where the bundles were written.
+     *
+     * @param args The directory of language files and the resource directory the bundles are written to.
+     * @throws IOException If a language file cannot be read or a bundle cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: TranslationBundleGenerator <translations> <output>");
+        }
+        generate(Path.of(args[0]), Path.of(args[1]));
+    }
+
+    /**
+     * Generates the bundles of a directory of language files.
+     *
+     * @param translations The directory containing {@code <version>/<language>.json} files. It may not exist.
+     * @param output The resource directory the bundles are written to.
+     * @return The directory containing the generated bundles.
+     * @throws IOException If a language file cannot be read or a bundle cannot be written.
+     */
+    static Path generate(Path translations, Path output) throws IOException {
+        Path bundles = output.resolve(ClasspathTranslationBundles.BUNDLE_DIRECTORY);
+        Files.createDirectories(bundles);
+        if (!Files.isDirectory(translations)) {
+            return bundles;
+        }
+        for (Path languageFile : languageFiles(translations)) {
+            String version = languageFile.getParent().getFileName().toString();
+            String language = languageFile.getFileName().toString().replaceFirst("\\.json$", "");
+            Map<Material, String> table;
+            KeyedTranslationTable keyed;
+            try (InputStream in = Files.newInputStream(languageFile);
+                 InputStream keyedIn = Files.newInputStream(languageFile)) {
+                table = TranslationLoader.parseJson(in);
+                keyed = TranslationLoader.parseKeyedJson(keyedIn, UnaryOperator.identity());
+            } catch (IOException e) {
+                throw new IOException("Could not parse " + languageFile, e);
+            }
+            Path directory = Files.createDirectories(bundles.resolve(version));
+            try (OutputStream out = Files.newOutputStream(directory.resolve(language + ClasspathTranslationBundles.EXTENSION))) {
+                TranslationTableCodec.write(table, out);
+            }
+            try (OutputStream out = Files.newOutputStream(directory.resolve(language + ClasspathTranslationBundles.KEYED_EXTENSION))) {
+                TranslationTableCodec.writeKeyed(keyed, out);
+            }
+        }
+        return bundles;
+    }
+
+    /**
+     * Lists the {@code <version>/<language>.json} files of a directory.
+     *
+     * @param translations The directory of language files.
+     * @return The language files, in a stable order.
+     * @throws IOException If the directory cannot be listed.
+     */
+    private static List<Path> languageFiles(Path translations) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> versions = Files.list(translations)) {
+            for (Path version : (Iterable<Path>) versions.filter(Files::isDirectory).sorted()::iterator) {
+                try (Stream<Path> languages = Files.list(version)) {
+                    languages.filter(file -> file.getFileName().toString().endsWith(".json"))
+                            .filter(Files::isRegularFile)
+                            .sorted()
+                            .forEach(files::add);
+                }
+            }
+        }
+        return files;
+    }
+}
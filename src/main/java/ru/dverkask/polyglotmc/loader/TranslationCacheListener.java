@@ -0,0 +1,34 @@
+package ru.dverkask.polyglotmc.loader;
+
+/**
+ * A listener notified by {@link TranslationManager} when it evicts cold translation tables.
+ * <p>
+ * Listeners are held weakly by the manager, so the registering object must keep a strong reference to
+ * its listener for as long as it wants to be notified. Callbacks are invoked on the thread performing
+ * the eviction, usually one of the manager's loader threads.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see TranslationManager#addCacheListener(TranslationCacheListener)
+ */
+public interface TranslationCacheListener {
+
+    /**
+     * Called before the manager decides which tables to evict, so that the listener can report the
+     * tables it has used since the previous eviction with {@link TranslationManager#touch(ru.dverkask.polyglotmc.lang.SupportedLanguage,
+     * ru.dverkask.polyglotmc.version.Version) TranslationManager.touch}.
+     *
+     * @param manager The manager about to evict tables.
+     */
+    default void collectUsage(TranslationManager manager) {}
+
+    /**
+     * Called after a table has been removed from the manager. The listener should drop any reference to
+     * the table, and request it again from the manager when it is next needed.
+     *
+     * @param key The {@link TranslationKey} of the evicted table.
+     */
+    void tableEvicted(TranslationKey key);
+}
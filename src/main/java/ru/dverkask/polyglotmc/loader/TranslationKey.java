@@ -0,0 +1,33 @@
+package ru.dverkask.polyglotmc.loader;
+
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.version.Version;
+
+import java.util.Objects;
+
+/**
+ * Identifies a single translation table by its language and Minecraft version.
+ * <p>
+ * Used by {@link TranslationManager} as the cache key, so that the same language
+ * can be held for several game versions at once.
+ * </p>
+ *
+ * @param language The {@link SupportedLanguage} of the table.
+ * @param version The {@link Version} of Minecraft the table belongs to.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+public record TranslationKey(SupportedLanguage language, Version version) {
+
+    /**
+     * Creates a new key, rejecting null components.
+     *
+     * @throws NullPointerException if the language or version is null
+     */
+    public TranslationKey {
+        Objects.requireNonNull(language, "language");
+        Objects.requireNonNull(version, "version");
+    }
+}
@@ -0,0 +1,56 @@
+package ru.dverkask.polyglotmc.loader;
+
+import java.time.Duration;
+
+/**
+ * Describes how a translation table was loaded by {@link TranslationManager}.
+ *
+ * @param key The {@link TranslationKey} of the loaded table.
+ * @param source The {@link Source} the table was loaded from.
+ * @param loadNanos The total time spent loading the table, in nanoseconds.
+ * @param parseNanos The part of {@code loadNanos} spent decoding the table, in nanoseconds. For downloaded
+ *                   tables the body is parsed while it is received, so this includes part of the transfer.
+ * @param entries The number of translations in the table.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+public record TranslationLoadReport(
+        TranslationKey key,
+        Source source,
+        long loadNanos,
+        long parseNanos,
+        int entries
+) {
+
+    /**
+     * Returns the total time spent loading the table.
+     *
+     * @return The load time as a {@link Duration}.
+     */
+    public Duration loadTime() {
+        return Duration.ofNanos(loadNanos);
+    }
+
+    /**
+     * Returns the time spent decoding the table.
+     *
+     * @return The parse time as a {@link Duration}.
+     */
+    public Duration parseTime() {
+        return Duration.ofNanos(parseNanos);
+    }
+
+    /**
+     * The sources a translation table can be loaded from.
+     */
+    public enum Source {
+        /** The table was read from a bundle packaged on the classpath. */
+        CLASSPATH,
+        /** The table was read from the on-disk cache. */
+        DISK_CACHE,
+        /** The language file was downloaded and parsed. */
+        NETWORK
+    }
+}
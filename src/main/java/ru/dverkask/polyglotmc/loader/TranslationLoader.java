@@ -2,18 +2,26 @@ package ru.dverkask.polyglotmc.loader;
 
 import org.bukkit.Material;
 import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.table.KeyedTranslationTable;
 import ru.dverkask.polyglotmc.version.Version;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.util.AbstractMap;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
 
 /**
  * Responsible for loading translations for Minecraft items and blocks from online JSON files.
@@ -21,6 +29,10 @@ import java.util.stream.Stream;
  * This class fetches and parses translation data for a specific language and Minecraft version.
  * It uses the InventivetalentDev's minecraft-assets repository as the source of translation files.
  * </p>
+ * <p>
+ * Loaders share a single {@link HttpClient} by default, so consecutive and concurrent loads reuse
+ * connections and, over HTTP/2, are multiplexed over one connection.
+ * </p>
  *
  * @author DverkaSK
  * @version 1.0
@@ -31,14 +43,23 @@ public class TranslationLoader {
     /**
      * The base URL for fetching Minecraft language assets.
      * This URL points to the InventivetalentDev's minecraft-assets repository.
+     * It is a format string taking the version and the language code, in that order.
+     */
+    public static final String DEFAULT_BASE_URL = "https://raw.githubusercontent.com/InventivetalentDev/minecraft-assets/%s/assets/minecraft/lang/%s.json";
+
+    /**
+     * The time after which a request for a language file is abandoned.
      */
-    private static final String BASE_URL = "https://raw.githubusercontent.com/InventivetalentDev/minecraft-assets/%s/assets/minecraft/lang/%s.json";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
 
     /**
-     * A regular expression pattern used to parse the JSON content of language files.
-     * This pattern matches keys for blocks and items, along with their translations.
+     * The HTTP client shared by all loaders that are not given another client.
      */
-    private static final Pattern JSON_PATTERN = Pattern.compile("\"((?:block|item)\\.minecraft\\.[^\"]+)\"\\s*:\\s*\"([^\"]+)\"");
+    private static final HttpClient DEFAULT_HTTP_CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
 
     /**
      * The language for which translations are being loaded.
@@ -53,77 +74,323 @@ public class TranslationLoader {
     private final Version version;
 
     /**
-     * Constructs a new TranslationLoader for the specified language and version.
+     * The HTTP client used to fetch the language file.
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * The format string of the language file URL, taking the version and the language code.
+     */
+    private final String baseUrl;
+
+    /**
+     * The time spent parsing the language file by the last load, in nanoseconds.
+     */
+    private volatile long parseNanos;
+
+    /**
+     * Constructs a new TranslationLoader for the specified language and version,
+     * using the shared HTTP client and the {@link #DEFAULT_BASE_URL default source}.
      *
      * @param language The {@link SupportedLanguage} for which to load translations.
      * @param version The {@link Version} of Minecraft for which to load translations.
      */
     public TranslationLoader(SupportedLanguage language, Version version) {
+        this(language, version, DEFAULT_HTTP_CLIENT, DEFAULT_BASE_URL);
+    }
+
+    /**
+     * Constructs a new TranslationLoader for the specified language and version.
+     *
+     * @param language The {@link SupportedLanguage} for which to load translations.
+     * @param version The {@link Version} of Minecraft for which to load translations.
+     * @param httpClient The {@link HttpClient} used to fetch the language file.
+     * @param baseUrl The format string of the language file URL, taking the version and the language code.
+     */
+    public TranslationLoader(SupportedLanguage language, Version version, HttpClient httpClient, String baseUrl) {
         this.language = language;
         this.version = version;
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Returns the HTTP client shared by loaders that are not given another client.
+     * It prefers HTTP/2 and follows redirects.
+     *
+     * @return The default {@link HttpClient}.
+     */
+    public static HttpClient defaultHttpClient() {
+        return DEFAULT_HTTP_CLIENT;
     }
 
     /**
      * Loads translations for the specified language and version.
      * <p>
-     * This method fetches the JSON content from the online source and parses it
-     * to create a mapping between {@link Material} and its translated name.
+     * This method fetches the JSON content from the online source and parses it while it is being
+     * received, creating a mapping between {@link Material} and its translated name.
      * </p>
      *
      * @return A {@link Map} where keys are {@link Material} objects and values are their translated names.
-     *         Returns an empty map if an error occurs during loading.
+     *         Returns an empty map if an error occurs during loading, after logging it to the
+     *         {@link TranslationManager#getLogger() logger of the manager}.
      */
     public Map<Material, String> loadTranslations() {
         try {
-            String jsonContent = fetchJsonContent();
+            return fetchTranslations();
+        } catch (IOException e) {
+            logFailure(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logFailure(e);
+        }
+        return Map.of();
+    }
+
+    /**
+     * Loads translations for the specified language and version, reporting failures to the caller.
+     * <p>
+     * Unlike {@link #loadTranslations()}, a failed load is never mistaken for a language without translations.
+     * </p>
+     *
+     * @return A {@link Map} where keys are {@link Material} objects and values are their translated names.
+     * @throws FileNotFoundException If the server has no language file for this language and version.
+     * @throws IOException If the file could not be fetched or is not a valid language file.
+     * @throws InterruptedException If the operation is interrupted.
+     */
+    public Map<Material, String> fetchTranslations() throws IOException, InterruptedException {
+        try (InputStream jsonContent = fetchJsonContent()) {
+            return timedParse(jsonContent);
+        }
+    }
+
+    /**
+     * Loads translations for the specified language and version without blocking the calling thread.
+     * <p>
+     * The request is sent asynchronously and the response body is parsed on {@code parseExecutor}
+     * once the response headers have arrived.
+     * </p>
+     *
+     * @param parseExecutor The {@link Executor} on which the response is parsed.
+     * @return A {@link CompletableFuture} completed with the translations. It is completed exceptionally if an
+     *         error occurs during loading, with a {@link FileNotFoundException} if the server has no such file.
+     */
+    public CompletableFuture<Map<Material, String>> loadTranslationsAsync(Executor parseExecutor) {
+        return httpClient.sendAsync(createRequest(), HttpResponse.BodyHandlers.ofInputStream())
+                .thenApplyAsync(response -> {
+                    try (InputStream jsonContent = checkResponse(response)) {
+                        return timedParse(jsonContent);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, parseExecutor);
+    }
+
+    /**
+     * Loads every key of the language file for the specified language and version.
+     * <p>
+     * Unlike {@link #loadTranslations()}, which keeps the names of materials only, the returned table also holds
+     * the names of entities, enchantments, effects, biomes and every other key of the file.
+     * </p>
+     *
+     * @param valueMapper A function applied to each translation before it is stored, for example to deduplicate it.
+     * @return A {@link KeyedTranslationTable} with all translations of the file.
+     *         Returns an empty table if an error occurs during loading, after logging it to the
+     *         {@link TranslationManager#getLogger() logger of the manager}.
+     */
+    public KeyedTranslationTable loadKeyedTable(UnaryOperator<String> valueMapper) {
+        try {
+            return fetchKeyedTable(valueMapper);
+        } catch (IOException e) {
+            logFailure(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logFailure(e);
+        }
+        return KeyedTranslationTable.empty();
+    }
+
+    /**
+     * Loads every key of the language file for the specified language and version, reporting failures to the caller.
+     * <p>
+     * Unlike {@link #loadKeyedTable(UnaryOperator)}, a failed load is never mistaken for an empty language file.
+     * </p>
+     *
+     * @param valueMapper A function applied to each translation before it is stored, for example to deduplicate it.
+     * @return A {@link KeyedTranslationTable} with all translations of the file.
+     * @throws FileNotFoundException If the server has no language file for this language and version.
+     * @throws IOException If the file could not be fetched or is not a valid language file.
+     * @throws InterruptedException If the operation is interrupted.
+     */
+    public KeyedTranslationTable fetchKeyedTable(UnaryOperator<String> valueMapper) throws IOException, InterruptedException {
+        try (InputStream jsonContent = fetchJsonContent()) {
+            long start = System.nanoTime();
+            try {
+                return parseKeyedJson(jsonContent, valueMapper);
+            } finally {
+                parseNanos = System.nanoTime() - start;
+            }
+        }
+    }
+
+    /**
+     * Returns the time the last load of this loader spent parsing the language file.
+     * Since the file is parsed while it is being received, this includes part of the transfer time.
+     *
+     * @return The parse time in nanoseconds, or 0 if nothing has been parsed.
+     */
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    /**
+     * Parses the JSON content and records the time spent doing so.
+     *
+     * @param jsonContent The JSON content to parse.
+     * @return A {@link Map} where keys are {@link Material} objects and values are their translated names.
+     * @throws IOException If an I/O error occurs or the content is not a valid language file.
+     */
+    private Map<Material, String> timedParse(InputStream jsonContent) throws IOException {
+        long start = System.nanoTime();
+        try {
             return parseJson(jsonContent);
-        } catch (IOException | InterruptedException e) {
-            e.printStackTrace();
-            return Map.of();
+        } finally {
+            parseNanos = System.nanoTime() - start;
         }
     }
 
     /**
      * Fetches the JSON content from the online source.
      *
-     * @return A {@link String} containing the JSON content.
-     * @throws IOException If an I/O error occurs when sending or receiving the HTTP request.
+     * @return An {@link InputStream} over the JSON content.
+     * @throws IOException If an I/O error occurs when sending or receiving the HTTP request,
+     *                     or if the server does not respond with the language file.
      * @throws InterruptedException If the operation is interrupted.
      */
-    private String fetchJsonContent() throws IOException, InterruptedException {
-        String url = String.format(BASE_URL, version.version(), language.getCode());
-        HttpClient client = HttpClient.newHttpClient();
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
+    private InputStream fetchJsonContent() throws IOException, InterruptedException {
+        return checkResponse(httpClient.send(createRequest(), HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    /**
+     * Creates the request for the language file.
+     *
+     * @return The {@link HttpRequest} for the language file.
+     */
+    private HttpRequest createRequest() {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url()))
+                .timeout(REQUEST_TIMEOUT)
                 .build();
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Returns the URL of the language file.
+     *
+     * @return The URL of the language file.
+     */
+    private String url() {
+        return String.format(baseUrl, version.version(), language.getCode());
+    }
+
+    /**
+     * Logs a failed load to the {@link TranslationManager#getLogger() logger of the manager}.
+     *
+     * @param error The cause of the failure.
+     */
+    private void logFailure(Exception error) {
+        TranslationManager.getInstance().getLogger().log(Level.WARNING, "Could not load the translations of "
+                + language.getCode() + " for " + version.version() + " from " + url() + ": " + error);
+    }
+
+    /**
+     * Checks that the server responded with the language file.
+     *
+     * @param response The response to check.
+     * @return The body of the response.
+     * @throws FileNotFoundException If the response status is 404 Not Found.
+     * @throws IOException If the response status is not 200 OK.
+     */
+    private static InputStream checkResponse(HttpResponse<InputStream> response) throws IOException {
+        if (response.statusCode() == 404) {
+            response.body().close();
+            throw new FileNotFoundException("No language file at " + response.uri());
+        }
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IOException("Unexpected HTTP status " + response.statusCode() + " for " + response.uri());
+        }
         return response.body();
     }
 
     /**
      * Parses the JSON content and creates a mapping between Materials and their translated names.
+     * <p>
+     * The content is read in a single pass with a {@link LanguageFileReader}. Only {@code block.minecraft.*}
+     * and {@code item.minecraft.*} keys are kept, the material being named by the third segment of the key;
+     * when several keys name the same material, the first one wins. All other entries are skipped without
+     * being decoded into strings.
+     * </p>
      *
-     * @param jsonContent The JSON content to parse.
+     * @param jsonContent The JSON content to parse, encoded in UTF-8.
      * @return A {@link Map} where keys are {@link Material} objects and values are their translated names.
+     * @throws IOException If an I/O error occurs or the content is not a valid language file.
      */
-    private Map<Material, String> parseJson(String jsonContent) {
-        return Pattern.compile(String.valueOf(JSON_PATTERN))
-                .matcher(jsonContent)
-                .results()
-                .map(matchResult -> new String[]{matchResult.group(1), matchResult.group(2)})
-                .filter(groups -> groups[0].split("\\.").length >= 3)
-                .flatMap(groups -> {
-                    try {
-                        Material material = Material.valueOf(groups[0].split("\\.")[2].toUpperCase());
-                        return Stream.of(new AbstractMap.SimpleEntry<>(material, groups[1]));
-                    } catch (IllegalArgumentException e) {
-                        return Stream.empty();
-                    }
-                })
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (existing, replacement) -> existing
-                ));
+    static Map<Material, String> parseJson(InputStream jsonContent) throws IOException {
+        MaterialKeyIndex materials = MaterialKeyIndex.getInstance();
+        Map<Material, String> translations = new EnumMap<>(Material.class);
+        LanguageFileReader reader = new LanguageFileReader(new InputStreamReader(jsonContent, StandardCharsets.UTF_8));
+        reader.beginObject();
+        while (reader.nextEntry()) {
+            Material material = materials.find(reader);
+            if (material == null || translations.containsKey(material)) {
+                reader.skipValue();
+                continue;
+            }
+            String translation = reader.readString();
+            if (translation != null && !translation.isEmpty()) {
+                translations.put(material, translation);
+            }
+        }
+        return translations;
+    }
+
+    /**
+     * Parses the JSON content and keeps every key with a non-empty string value.
+     * <p>
+     * Keys are copied straight from the reader into the table being built, without creating a {@link String}
+     * per key. Materials are resolved as in {@link #parseJson(InputStream)}.
+     * </p>
+     *
+     * @param jsonContent The JSON content to parse, encoded in UTF-8.
+     * @param valueMapper A function applied to each translation before it is stored.
+     * @return A {@link KeyedTranslationTable} with all translations of the file.
+     * @throws IOException If an I/O error occurs or the content is not a valid language file.
+     */
+    static KeyedTranslationTable parseKeyedJson(InputStream jsonContent, UnaryOperator<String> valueMapper) throws IOException {
+        MaterialKeyIndex materials = MaterialKeyIndex.getInstance();
+        KeyedTranslationTable.Builder table = KeyedTranslationTable.builder();
+        LanguageFileReader reader = new LanguageFileReader(new InputStreamReader(jsonContent, StandardCharsets.UTF_8));
+        char[] key = new char[64];
+        reader.beginObject();
+        while (reader.nextEntry()) {
+            int length = reader.keyLength();
+            if (length > key.length) {
+                key = new char[Math.max(length, key.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                key[i] = reader.keyCharAt(i);
+            }
+            Material material = materials.find(reader);
+            String translation = reader.readString();
+            if (translation == null || translation.isEmpty()) {
+                continue;
+            }
+            translation = valueMapper.apply(translation);
+            table.add(key, length, translation);
+            if (material != null) {
+                table.material(material, translation);
+            }
+        }
+        return table.build();
     }
 }
@@ -2,10 +2,53 @@ package ru.dverkask.polyglotmc.loader;
 
 import org.bukkit.Material;
 import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.table.ArrayTranslationTable;
+import ru.dverkask.polyglotmc.table.CompactTranslationTable;
+import ru.dverkask.polyglotmc.table.DeltaTranslationTable;
+import ru.dverkask.polyglotmc.table.FuzzyTranslationIndex;
+import ru.dverkask.polyglotmc.table.KeyedTranslationTable;
+import ru.dverkask.polyglotmc.table.StorageMode;
+import ru.dverkask.polyglotmc.table.TranslationTable;
+import ru.dverkask.polyglotmc.version.SupportedVersion;
 import ru.dverkask.polyglotmc.version.Version;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Manages translations for Minecraft items and blocks across different languages and versions.
@@ -14,6 +57,43 @@ import java.util.Map;
  * throughout the application. It provides methods to retrieve translations for specific languages
  * and Minecraft versions, caching results for improved performance.
  * </p>
+ * <p>
+ * Tables are cached per {@link TranslationKey}, i.e. per language and version pair. Concurrent requests
+ * for a table that is not cached yet are coalesced: the first caller performs the load and every other
+ * caller waits for that same load instead of starting its own download. Identical translation values
+ * are shared between all tables, whatever their language or version. Failed loads are not cached: they are
+ * logged with the logger set by {@link #setLogger(java.util.logging.Logger)}, and the next request loads the table again.
+ * </p>
+ * <p>
+ * Tables can also be requested asynchronously with {@link #getTranslationsAsync(SupportedLanguage, Version)},
+ * in which case the load runs on a dedicated background executor and never blocks the calling thread.
+ * </p>
+ * <p>
+ * When a cache directory is configured with {@link #setCacheDirectory(Path)}, loaded tables are also
+ * persisted on disk and read back on the next start without any network access.
+ * Tables bundled on the classpath at build time are preferred over both the disk cache and the network.
+ * </p>
+ * <p>
+ * All downloads share one {@link HttpClient}. Several languages can be loaded in parallel with
+ * {@link #prefetch(Collection, Version)}.
+ * </p>
+ * <p>
+ * Loaded tables are held as {@link TranslationTable}s in the layout selected with {@link #setStorageMode(StorageMode)}.
+ * When several versions of a language are loaded, the first one is kept in full and the others are stored as
+ * {@link DeltaTranslationTable}s holding only their differences from it, so that serving N versions of a
+ * language costs little more than one.
+ * </p>
+ * <p>
+ * Snapshots and pre-releases fall back to their nearest release, and every version can fall back to a default
+ * version set with {@link #setFallbackVersion(Version)}. Translations missing from a version are filled from its
+ * fallback table when the table is built, and a version whose language file is missing altogether shares the
+ * fallback table instead of loading it again.
+ * </p>
+ * <p>
+ * By default, loaded tables are kept forever. With {@link #setMemoryBudget(long)} or {@link #setIdleTimeout(Duration)},
+ * the least recently used tables are evicted; pinned tables are never evicted. An evicted table is loaded again,
+ * from the fastest source that has it, the next time it is requested.
+ * </p>
  *
  * @author DverkaSK
  * @version 1.0
@@ -24,18 +104,177 @@ public final class TranslationManager {
     /** The single instance of TranslationManager. */
     private volatile static TranslationManager instance;
 
+    /** The number of threads used for asynchronous loading. */
+    private static final int LOADER_THREADS = 2;
+
+    /** The default maximum number of tables loaded at the same time by {@link #prefetch(Collection, Version)}. */
+    public static final int DEFAULT_PREFETCH_CONCURRENCY = 4;
+
+    /** Tables used more recently than this are never evicted to honour the memory budget, which prevents reload loops. */
+    private static final long MIN_IDLE_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    /** A version is stored as a delta if at most this fraction (1/n) of the materials changed from its base table. */
+    private static final int MAX_DELTA_FRACTION = 4;
+
+    /** The shortest interval between two idle sweeps. */
+    private static final long MIN_SWEEP_INTERVAL_MILLIS = 1000;
+
+    /**
+     * A map storing translations for each language and version pair.
+     * Each value holds the (possibly still running) load of that table, shared by all callers.
+     */
+    private final ConcurrentMap<TranslationKey, CachedTable> translations;
+
+    /**
+     * The tables holding every key of a language file, for each language and version pair.
+     * Each value holds the (possibly still running) load of a {@link KeyedTranslationTable}, shared by all callers.
+     * They are never pinned, and are evicted without notifying the cache listeners.
+     */
+    private final ConcurrentMap<TranslationKey, CachedTable> keyedTables;
+
+    /**
+     * The pool of translation values shared by all tables.
+     */
+    private final StringPool stringPool;
+
+    /**
+     * Reports describing how each loaded table was obtained.
+     */
+    private final ConcurrentMap<TranslationKey, TranslationLoadReport> loadReports;
+
+    /**
+     * The histogram of load times of tables, per source they were loaded from.
+     */
+    private final Map<TranslationLoadReport.Source, LatencyHistogram> loadLatency;
+
+    /**
+     * The executor on which asynchronous loads are performed.
+     * Its threads are daemon threads, so they never keep the server process alive.
+     */
+    private final ScheduledExecutorService loaderExecutor;
+
+    /**
+     * The on-disk cache of loaded tables, or null if disk caching is disabled.
+     */
+    private volatile DiskTranslationCache diskCache;
+
+    /**
+     * The translation bundles packaged on the classpath, read before any other source.
+     */
+    private final ClasspathTranslationBundles bundles;
+
+    /**
+     * The HTTP client shared by all downloads of language files.
+     */
+    private volatile HttpClient httpClient = TranslationLoader.defaultHttpClient();
+
+    /**
+     * The format string of the language file URL, taking the version and the language code.
+     */
+    private volatile String baseUrl = TranslationLoader.DEFAULT_BASE_URL;
+
+    /**
+     * The layout in which newly loaded tables are stored.
+     */
+    private volatile StorageMode storageMode = StorageMode.ARRAY;
+
+    /**
+     * The logger receiving failed loads.
+     */
+    private volatile Logger logger = Logger.getLogger("PolyglotMC");
+
+    /**
+     * Whether snapshots and pre-releases fall back to their nearest release.
+     */
+    private volatile boolean versionFallback = true;
+
+    /**
+     * Whether a {@link FuzzyTranslationIndex} is built in the background for each table once it is loaded.
+     */
+    private volatile boolean fuzzyIndexing;
+
     /**
-     * A map storing translations for each supported language.
-     * The outer map uses {@link SupportedLanguage} as keys and the inner map uses {@link Material} as keys.
+     * The version every other version falls back to last, or null if there is none.
      */
-    private final Map<SupportedLanguage, Map<Material, String>> translations;
+    private volatile Version fallbackVersion;
+
+    /**
+     * The estimated size above which the least recently used tables are evicted, in bytes.
+     */
+    private volatile long memoryBudget = Long.MAX_VALUE;
+
+    /**
+     * The time after which an unused table is evicted, or null if tables never expire.
+     */
+    private volatile Duration idleTimeout;
+
+    /**
+     * The periodic eviction of idle tables, or null if no idle timeout is set.
+     */
+    private ScheduledFuture<?> idleSweep;
+
+    /**
+     * The tables that are never evicted.
+     */
+    private final Set<TranslationKey> pinned = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The tables that were evicted and have not been loaded again since.
+     */
+    private final Set<TranslationKey> evicted = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Serializes evictions, so that concurrent sweeps do not evict the same tables twice.
+     */
+    private final Object evictionLock = new Object();
+
+    /**
+     * Guards {@link #loadsInFlight} and {@link #prunePending}, and is held while the string pool is pruned,
+     * so that no load starts interning translations during a prune.
+     */
+    private final Object poolLock = new Object();
+
+    /**
+     * The number of loads that may have interned translations not yet referenced by a loaded table.
+     */
+    private int loadsInFlight;
+
+    /**
+     * Whether a prune of the string pool was skipped because loads were in flight, and must run once they complete.
+     */
+    private boolean prunePending;
+
+    /**
+     * The listeners notified of evictions, held weakly.
+     */
+    private final List<WeakReference<TranslationCacheListener>> cacheListeners = new CopyOnWriteArrayList<>();
+
+    /** The number of evicted tables. */
+    private final LongAdder evictions = new LongAdder();
+
+    /** The number of evicted tables that were loaded again. */
+    private final LongAdder reloads = new LongAdder();
 
     /**
      * Private constructor to prevent direct instantiation.
-     * Initializes the translations map.
+     * Initializes the translations map and the loader executor.
      */
     private TranslationManager() {
-        this.translations = new EnumMap<>(SupportedLanguage.class);
+        this.translations = new ConcurrentHashMap<>();
+        this.keyedTables = new ConcurrentHashMap<>();
+        this.loadReports = new ConcurrentHashMap<>();
+        this.loadLatency = new EnumMap<>(TranslationLoadReport.Source.class);
+        for (TranslationLoadReport.Source source : TranslationLoadReport.Source.values()) {
+            loadLatency.put(source, new LatencyHistogram());
+        }
+        this.stringPool = new StringPool();
+        this.bundles = new ClasspathTranslationBundles(TranslationManager.class.getClassLoader(), () -> logger);
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.loaderExecutor = Executors.newScheduledThreadPool(LOADER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "PolyglotMC-Loader-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
@@ -45,34 +284,1337 @@ public final class TranslationManager {
      * @return The singleton instance of {@link TranslationManager}
      */
     public static TranslationManager getInstance() {
-        if (instance == null) {
-            instance = new TranslationManager();
+        TranslationManager result = instance;
+        if (result == null) {
+            synchronized (TranslationManager.class) {
+                result = instance;
+                if (result == null) {
+                    instance = result = new TranslationManager();
+                }
+            }
         }
-        return instance;
+        return result;
+    }
+
+    /**
+     * Sets the directory in which loaded translation tables are persisted between restarts.
+     * <p>
+     * A plugin would typically use a folder inside its data folder, for example
+     * {@code plugin.getDataFolder().toPath().resolve("translations")}.
+     * Tables already held in memory are not affected.
+     * </p>
+     *
+     * @param directory The cache directory, or null to disable disk caching.
+     */
+    public void setCacheDirectory(Path directory) {
+        this.diskCache = directory != null ? new DiskTranslationCache(directory, () -> logger) : null;
+    }
+
+    /**
+     * Sets the HTTP client used to download language files.
+     * <p>
+     * By default, a shared client preferring HTTP/2 is used, so that downloads reuse one connection.
+     * </p>
+     *
+     * @param httpClient The {@link HttpClient} to use.
+     */
+    public void setHttpClient(HttpClient httpClient) {
+        this.httpClient = Objects.requireNonNull(httpClient, "httpClient");
+    }
+
+    /**
+     * Sets the source from which language files are downloaded.
+     * <p>
+     * The URL is a format string taking the version and the language code, in that order.
+     * By default, {@link TranslationLoader#DEFAULT_BASE_URL} is used. This can point to a mirror of the assets.
+     * </p>
+     *
+     * @param baseUrl The format string of the language file URL.
+     */
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = Objects.requireNonNull(baseUrl, "baseUrl");
+    }
+
+    /**
+     * Sets the layout in which loaded tables are stored.
+     * <p>
+     * {@link StorageMode#ARRAY} keeps every translation as a ready {@link String} and is the fastest to read.
+     * {@link StorageMode#COMPACT} keeps each table as a single UTF-8 byte array and decodes translations
+     * on demand, which uses several times less heap. Tables already held in memory are not affected.
+     * </p>
+     *
+     * @param storageMode The {@link StorageMode} of tables loaded from now on.
+     */
+    public void setStorageMode(StorageMode storageMode) {
+        this.storageMode = Objects.requireNonNull(storageMode, "storageMode");
+    }
+
+    /**
+     * Sets the logger receiving a warning for each table that fails to load, typically the logger of the plugin.
+     *
+     * @param logger The {@link Logger} to use
+     */
+    public void setLogger(Logger logger) {
+        this.logger = Objects.requireNonNull(logger, "logger");
+    }
+
+    /**
+     * Returns the logger receiving a warning for each table that fails to load.
+     *
+     * @return The {@link Logger} in use
+     * @see #setLogger(Logger)
+     */
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Enables or disables the fallback of snapshots and pre-releases to their nearest release.
+     * <p>
+     * When enabled, a snapshot or pre-release table is completed with the translations of the release it leads to,
+     * or of the newest older release if that one is not supported yet. If the language file of the snapshot or
+     * pre-release cannot be loaded at all, the release table is used as is. Fallback is enabled by default.
+     * Tables already held in memory are not affected.
+     * </p>
+     *
+     * @param versionFallback true to complete snapshots and pre-releases with release translations
+     */
+    public void setVersionFallback(boolean versionFallback) {
+        this.versionFallback = versionFallback;
+    }
+
+    /**
+     * Returns whether snapshots and pre-releases fall back to their nearest release.
+     *
+     * @return true if the fallback to the nearest release is enabled
+     * @see #setVersionFallback(boolean)
+     */
+    public boolean isVersionFallback() {
+        return versionFallback;
+    }
+
+    /**
+     * Sets the version that all other versions fall back to last, after the nearest release.
+     * <p>
+     * Translations missing from a table are filled from the table of this version, which is loaded once and
+     * shared by all versions falling back to it. By default there is no fallback version.
+     * Tables already held in memory are not affected.
+     * </p>
+     * <p>
+     * The fallback version must be a {@link SupportedVersion.Release}: a snapshot or pre-release would itself
+     * fall back to its nearest release, which falls back to it again.
+     * </p>
+     *
+     * @param fallbackVersion The fallback {@link Version}, or null to disable the last fallback
+     * @throws IllegalArgumentException if the fallback version is not a release
+     */
+    public void setFallbackVersion(Version fallbackVersion) {
+        if (fallbackVersion != null && !(fallbackVersion instanceof SupportedVersion.Release)) {
+            throw new IllegalArgumentException("Fallback version " + fallbackVersion.version() + " is not a release");
+        }
+        this.fallbackVersion = fallbackVersion;
+    }
+
+    /**
+     * Returns the version that all other versions fall back to last.
+     *
+     * @return The fallback {@link Version}, or null if there is none
+     * @see #setFallbackVersion(Version)
+     */
+    public Version getFallbackVersion() {
+        return fallbackVersion;
+    }
+
+    /**
+     * Enables or disables building a {@link FuzzyTranslationIndex} for each table as soon as it is loaded.
+     * <p>
+     * The index is built on the background executor, so loads complete as before and the index becomes
+     * available a little later. When disabled, which is the default, an index is only built once it is requested
+     * with {@link #getFuzzyIndex(SupportedLanguage, Version)}. Its size is counted against the memory budget, and
+     * it is dropped together with its table.
+     * </p>
+     *
+     * @param fuzzyIndexing true to index every table once it is loaded
+     */
+    public void setFuzzyIndexing(boolean fuzzyIndexing) {
+        this.fuzzyIndexing = fuzzyIndexing;
+    }
+
+    /**
+     * Returns whether a {@link FuzzyTranslationIndex} is built for each table as soon as it is loaded.
+     *
+     * @return true if every table is indexed once it is loaded
+     * @see #setFuzzyIndexing(boolean)
+     */
+    public boolean isFuzzyIndexing() {
+        return fuzzyIndexing;
+    }
+
+    /**
+     * Sets the estimated heap size above which the least recently used tables are evicted.
+     * <p>
+     * The size of a table is its {@link TranslationTable#estimatedBytes()} plus, for tables stored as strings,
+     * the size of its translations as if they were not shared with other tables. The budget is enforced after
+     * each load and is soft: pinned tables and tables used during the last few seconds are never evicted for it.
+     * </p>
+     *
+     * @param memoryBudget The budget in bytes, or {@link Long#MAX_VALUE} to keep every table.
+     * @throws IllegalArgumentException if {@code memoryBudget} is not positive.
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("memoryBudget must be positive");
+        }
+        this.memoryBudget = memoryBudget;
+        if (memoryBudget != Long.MAX_VALUE) {
+            loaderExecutor.execute(this::evictColdTables);
+        }
+    }
+
+    /**
+     * Returns the estimated heap size above which the least recently used tables are evicted.
+     *
+     * @return The budget in bytes, or {@link Long#MAX_VALUE} if every table is kept
+     * @see #setMemoryBudget(long)
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Sets the time after which a table that has not been used is evicted.
+     * <p>
+     * Idle tables are looked for periodically, at an interval of half the timeout. Pinned tables never expire.
+     * </p>
+     *
+     * @param idleTimeout The idle time after which tables are evicted, or null to keep idle tables.
+     * @throws IllegalArgumentException if {@code idleTimeout} is zero or negative.
+     */
+    public synchronized void setIdleTimeout(Duration idleTimeout) {
+        if (idleTimeout != null && (idleTimeout.isZero() || idleTimeout.isNegative())) {
+            throw new IllegalArgumentException("idleTimeout must be positive");
+        }
+        this.idleTimeout = idleTimeout;
+        if (idleSweep != null) {
+            idleSweep.cancel(false);
+            idleSweep = null;
+        }
+        if (idleTimeout != null) {
+            long interval = Math.max(MIN_SWEEP_INTERVAL_MILLIS, idleTimeout.toMillis() / 2);
+            idleSweep = loaderExecutor.scheduleWithFixedDelay(this::evictColdTables, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the time after which a table that has not been used is evicted.
+     *
+     * @return The idle timeout, or null if idle tables are kept
+     * @see #setIdleTimeout(Duration)
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Prevents a table from being evicted. The table does not have to be loaded yet.
+     *
+     * @param language The {@link SupportedLanguage} of the table
+     * @param version The {@link Version} of Minecraft of the table
+     */
+    public void pin(SupportedLanguage language, Version version) {
+        pinned.add(new TranslationKey(language, version));
+    }
+
+    /**
+     * Allows a table pinned with {@link #pin(SupportedLanguage, Version)} to be evicted again.
+     *
+     * @param language The {@link SupportedLanguage} of the table
+     * @param version The {@link Version} of Minecraft of the table
+     */
+    public void unpin(SupportedLanguage language, Version version) {
+        pinned.remove(new TranslationKey(language, version));
+    }
+
+    /**
+     * Marks a table as used now, so that it is evicted after less recently used tables.
+     * <p>
+     * Tables are marked automatically when they are requested from the manager. Components that keep
+     * a table and read it directly report their usage with this method from
+     * {@link TranslationCacheListener#collectUsage(TranslationManager)}.
+     * </p>
+     *
+     * @param language The {@link SupportedLanguage} of the table
+     * @param version The {@link Version} of Minecraft of the table
+     */
+    public void touch(SupportedLanguage language, Version version) {
+        CachedTable cached = translations.get(new TranslationKey(language, version));
+        if (cached != null) {
+            cached.lastAccess = System.nanoTime();
+        }
+    }
+
+    /**
+     * Registers a listener notified when tables are evicted.
+     * The listener is held weakly: the caller must keep a reference to it.
+     *
+     * @param listener The {@link TranslationCacheListener} to register
+     */
+    public void addCacheListener(TranslationCacheListener listener) {
+        cacheListeners.add(new WeakReference<>(Objects.requireNonNull(listener, "listener")));
+    }
+
+    /**
+     * Unregisters a listener registered with {@link #addCacheListener(TranslationCacheListener)}.
+     *
+     * @param listener The {@link TranslationCacheListener} to unregister
+     */
+    public void removeCacheListener(TranslationCacheListener listener) {
+        cacheListeners.removeIf(reference -> {
+            TranslationCacheListener registered = reference.get();
+            return registered == null || registered == listener;
+        });
+    }
+
+    /**
+     * Returns the eviction counters and the current size of the cached tables.
+     *
+     * @return The current {@link EvictionStatistics}
+     */
+    public EvictionStatistics getEvictionStatistics() {
+        int tables = 0;
+        long bytes = 0;
+        for (CachedTable cached : allTables()) {
+            if (cached.isLoaded()) {
+                tables++;
+                bytes += cached.weight;
+            }
+        }
+        return new EvictionStatistics(evictions.sum(), reloads.sum(), tables, bytes);
+    }
+
+    /**
+     * Returns a snapshot of the metrics of the manager: load time histograms, the size of each loaded table,
+     * the eviction counters and the memory footprint.
+     * <p>
+     * Counters are read without stopping loads, so a snapshot taken during a load may be slightly inconsistent.
+     * Taking a snapshot walks all cached tables and is meant to be done at the rate of a metrics scraper.
+     * </p>
+     *
+     * @return A new {@link TranslationMetrics}
+     */
+    public TranslationMetrics getMetrics() {
+        Map<TranslationLoadReport.Source, LatencyHistogram.Snapshot> latency = new EnumMap<>(TranslationLoadReport.Source.class);
+        loadLatency.forEach((source, histogram) -> latency.put(source, histogram.snapshot()));
+        List<TableMetrics> tables = new ArrayList<>();
+        for (Map.Entry<TranslationKey, CachedTable> entry : translations.entrySet()) {
+            CachedTable cached = entry.getValue();
+            if (cached.isLoaded()) {
+                tables.add(new TableMetrics(entry.getKey(), cached.table.join().size(), cached.weight, cached.shared,
+                        loadReports.get(entry.getKey())));
+            }
+        }
+        return new TranslationMetrics(Collections.unmodifiableMap(latency), Collections.unmodifiableList(tables),
+                getEvictionStatistics(), getMemoryFootprint());
+    }
+
+    /**
+     * Evicts the tables that have been idle for longer than the idle timeout, then the least recently
+     * used tables until the cached tables fit in the memory budget.
+     * <p>
+     * This runs automatically after loads and periodically when an idle timeout is set,
+     * but it can also be called directly, for example from a scheduled task of the plugin.
+     * </p>
+     *
+     * @return The number of evicted tables
+     */
+    public int evictColdTables() {
+        synchronized (evictionLock) {
+            for (TranslationCacheListener listener : listeners()) {
+                listener.collectUsage(this);
+            }
+            long now = System.nanoTime();
+            Duration idle = idleTimeout;
+            long idleNanos = idle != null ? idle.toNanos() : Long.MAX_VALUE;
+            long budget = memoryBudget;
+            long used = 0;
+            Set<TranslationKey> bases = new HashSet<>();
+            for (CachedTable cached : translations.values()) {
+                if (cached.base != null) {
+                    bases.add(cached.base);
+                }
+            }
+            List<EvictionCandidate> candidates = new ArrayList<>();
+            for (Map.Entry<TranslationKey, CachedTable> entry : translations.entrySet()) {
+                CachedTable cached = entry.getValue();
+                if (!cached.isLoaded()) {
+                    continue;
+                }
+                used += cached.weight;
+                if (!pinned.contains(entry.getKey()) && !bases.contains(entry.getKey())) {
+                    candidates.add(new EvictionCandidate(entry.getKey(), cached, now - cached.lastAccess, false));
+                }
+            }
+            for (Map.Entry<TranslationKey, CachedTable> entry : keyedTables.entrySet()) {
+                CachedTable cached = entry.getValue();
+                if (cached.isLoaded()) {
+                    used += cached.weight;
+                    candidates.add(new EvictionCandidate(entry.getKey(), cached, now - cached.lastAccess, true));
+                }
+            }
+            candidates.sort(Comparator.comparingLong(EvictionCandidate::idleNanos).reversed());
+            int count = 0;
+            for (EvictionCandidate candidate : candidates) {
+                boolean expired = candidate.idleNanos() > idleNanos;
+                boolean overBudget = used > budget && candidate.idleNanos() > MIN_IDLE_NANOS;
+                if (!expired && !overBudget) {
+                    break;
+                }
+                if (candidate.keyed()) {
+                    if (keyedTables.remove(candidate.key(), candidate.table())) {
+                        used -= candidate.table().weight;
+                        evictions.increment();
+                        count++;
+                    }
+                } else if (translations.remove(candidate.key(), candidate.table())) {
+                    used -= candidate.table().weight;
+                    evicted.add(candidate.key());
+                    evictions.increment();
+                    count++;
+                    for (TranslationCacheListener listener : listeners()) {
+                        listener.tableEvicted(candidate.key());
+                    }
+                }
+            }
+            if (count > 0) {
+                pruneStringPool();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Adds to the weight of a cached table. Weights are only updated under {@link #evictionLock}, so that
+     * concurrent additions are not lost and an eviction in progress sees a consistent value.
+     *
+     * @param cached The cache entry of the table
+     * @param bytes The bytes to add
+     */
+    private void addWeight(CachedTable cached, long bytes) {
+        synchronized (evictionLock) {
+            cached.weight += bytes;
+        }
+    }
+
+    /**
+     * Evicts one table now, whether it is pinned or idle, for example when its plugin is disabled.
+     * <p>
+     * Listeners are notified as for {@link #evictColdTables()}. A table still being loaded, or serving as the base
+     * of another version of its language, is not evicted. A pin on the table is kept.
+     * </p>
+     *
+     * @param language The {@link SupportedLanguage} of the table
+     * @param version The {@link Version} of Minecraft of the table
+     * @return true if the table was evicted
+     */
+    public boolean evict(SupportedLanguage language, Version version) {
+        TranslationKey key = new TranslationKey(language, version);
+        synchronized (evictionLock) {
+            CachedTable cached = translations.get(key);
+            if (cached == null || !cached.isLoaded()) {
+                return false;
+            }
+            for (CachedTable other : translations.values()) {
+                if (key.equals(other.base)) {
+                    return false;
+                }
+            }
+            if (!translations.remove(key, cached)) {
+                return false;
+            }
+            evicted.add(key);
+            evictions.increment();
+            for (TranslationCacheListener listener : listeners()) {
+                listener.tableEvicted(key);
+            }
+            pruneStringPool();
+            return true;
+        }
+    }
+
+    /**
+     * Returns the cache entries of all tables, keyed tables included.
+     *
+     * @return A view of the entries of {@link #translations} followed by those of {@link #keyedTables}
+     */
+    private Iterable<CachedTable> allTables() {
+        return () -> Stream.concat(translations.values().stream(), keyedTables.values().stream()).iterator();
+    }
+
+    /**
+     * Returns the registered listeners that have not been garbage collected, forgetting the others.
+     *
+     * @return The live listeners
+     */
+    private List<TranslationCacheListener> listeners() {
+        List<TranslationCacheListener> live = new ArrayList<>(cacheListeners.size());
+        for (WeakReference<TranslationCacheListener> reference : cacheListeners) {
+            TranslationCacheListener listener = reference.get();
+            if (listener != null) {
+                live.add(listener);
+            } else {
+                cacheListeners.remove(reference);
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Records the start of a load, which may intern translations before its table is installed.
+     */
+    private void beginLoad() {
+        synchronized (poolLock) {
+            loadsInFlight++;
+        }
+    }
+
+    /**
+     * Records the end of a load, once its table is published, and runs the prune of the string pool
+     * that waited for it, if any.
+     */
+    private void endLoad() {
+        boolean prune;
+        synchronized (poolLock) {
+            prune = --loadsInFlight == 0 && prunePending;
+        }
+        if (prune) {
+            loaderExecutor.execute(this::pruneStringPool);
+        }
+    }
+
+    /**
+     * Removes from the string pool the translations that are no longer referenced by any loaded table.
+     * <p>
+     * A load interns its translations before its table is installed, so a prune running meanwhile would drop
+     * them from the pool. The prune is therefore postponed until no load is in flight.
+     * </p>
+     */
+    private void pruneStringPool() {
+        synchronized (poolLock) {
+            if (loadsInFlight > 0) {
+                prunePending = true;
+                return;
+            }
+            prunePending = false;
+            retainLiveStrings();
+        }
+    }
+
+    /**
+     * Removes from the string pool the translations that are not referenced by any loaded table.
+     */
+    private void retainLiveStrings() {
+        Set<String> live = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (CachedTable cached : translations.values()) {
+            TranslationTable table = cached.isLoaded() ? cached.table.join() : null;
+            if (table instanceof ArrayTranslationTable || table instanceof DeltaTranslationTable) {
+                live.addAll(table.asMap().values());
+            }
+        }
+        for (CachedTable cached : keyedTables.values()) {
+            if (cached.isLoaded()) {
+                ((KeyedTranslationTable) cached.table.join()).forEachValue(live::add);
+            }
+        }
+        stringPool.retainAll(live);
     }
 
     /**
      * Retrieves translations for a specific language and Minecraft version.
-     * If translations for the given language are not cached, they will be loaded.
+     * If translations for the given language and version are not cached, they will be loaded.
+     * <p>
+     * If another thread is already loading the same table, this method waits for that load
+     * to finish and returns its result. Otherwise the table is loaded on the calling thread.
+     * </p>
      *
      * @param language The {@link SupportedLanguage} for which to retrieve translations
      * @param version The {@link Version} of Minecraft for which to retrieve translations
      * @return A {@link Map} where keys are {@link Material} objects and values are their translated names
+     * @throws CompletionException if the table cannot be loaded; the failure is not cached, so a later call loads it again
+     * @see #getTable(SupportedLanguage, Version)
      */
     public Map<Material, String> getTranslations(SupportedLanguage language, Version version) {
-        return translations.computeIfAbsent(language, lang -> loadTranslations(lang, version));
+        return getTable(language, version).asMap();
     }
 
     /**
-     * Loads translations for a specific language and Minecraft version.
-     * This method is called internally when translations for a language are not yet cached.
+     * Retrieves the translation table for a specific language and Minecraft version.
+     * If the table is not cached, it will be loaded, as with {@link #getTranslations(SupportedLanguage, Version)}.
      *
-     * @param language The {@link SupportedLanguage} for which to load translations
+     * @param language The {@link SupportedLanguage} for which to retrieve translations
+     * @param version The {@link Version} of Minecraft for which to retrieve translations
+     * @return The {@link TranslationTable} of the language and version
+     * @throws CompletionException if the table cannot be loaded; the failure is not cached, so a later call loads it again
+     */
+    public TranslationTable getTable(SupportedLanguage language, Version version) {
+        return request(new TranslationKey(language, version),
+                key -> CompletableFuture.completedFuture(loadTranslations(key))).join();
+    }
+
+    /**
+     * Retrieves translations for a specific language and Minecraft version without blocking.
+     * <p>
+     * If the table is not cached yet, it is loaded on the manager's background executor.
+     * The returned future is shared by every caller waiting for the same table.
+     * </p>
+     *
+     * @param language The {@link SupportedLanguage} for which to retrieve translations
+     * @param version The {@link Version} of Minecraft for which to retrieve translations
+     * @return A {@link CompletableFuture} completed with the translations once they are loaded
+     * @see #getTableAsync(SupportedLanguage, Version)
+     */
+    public CompletableFuture<Map<Material, String>> getTranslationsAsync(SupportedLanguage language, Version version) {
+        return getTableAsync(language, version).thenApply(TranslationTable::asMap);
+    }
+
+    /**
+     * Retrieves the translation table for a specific language and Minecraft version without blocking.
+     * If the table is not cached, it is loaded as with {@link #getTranslationsAsync(SupportedLanguage, Version)}.
+     *
+     * @param language The {@link SupportedLanguage} for which to retrieve translations
+     * @param version The {@link Version} of Minecraft for which to retrieve translations
+     * @return A {@link CompletableFuture} completed with the {@link TranslationTable} once it is loaded,
+     *         or completed exceptionally if it cannot be loaded
+     */
+    public CompletableFuture<TranslationTable> getTableAsync(SupportedLanguage language, Version version) {
+        return request(new TranslationKey(language, version),
+                key -> CompletableFuture.supplyAsync(() -> loadTranslations(key), loaderExecutor));
+    }
+
+    /**
+     * Retrieves the table holding every key of the language file for a specific language and Minecraft version.
+     * <p>
+     * Besides materials, the table names entities, enchantments, effects, biomes and everything else the game
+     * translates. It is read from the classpath bundles or the disk cache if they have it, otherwise downloaded
+     * and written to the disk cache; concurrent requests share the same load. Its translations are deduplicated
+     * with those of all other tables, and it is weighed against the memory budget and evicted like them.
+     * </p>
+     *
+     * @param language The {@link SupportedLanguage} for which to retrieve translations
+     * @param version The {@link Version} of Minecraft for which to retrieve translations
+     * @return The {@link KeyedTranslationTable} of the language and version
+     * @throws CompletionException if the table cannot be loaded; the failure is not cached, so a later call loads it again
+     */
+    public KeyedTranslationTable getKeyedTable(SupportedLanguage language, Version version) {
+        return getKeyedTableAsync(language, version).join();
+    }
+
+    /**
+     * Retrieves the table holding every key of the language file without blocking.
+     * The table is loaded on the manager's background executor if it is not cached yet.
+     *
+     * @param language The {@link SupportedLanguage} for which to retrieve translations
+     * @param version The {@link Version} of Minecraft for which to retrieve translations
+     * @return A {@link CompletableFuture} completed with the {@link KeyedTranslationTable} once it is loaded,
+     *         or completed exceptionally if it cannot be loaded
+     * @see #getKeyedTable(SupportedLanguage, Version)
+     */
+    public CompletableFuture<KeyedTranslationTable> getKeyedTableAsync(SupportedLanguage language, Version version) {
+        TranslationKey key = new TranslationKey(language, version);
+        CachedTable existing = keyedTables.get(key);
+        if (existing == null) {
+            CachedTable created = new CachedTable();
+            existing = keyedTables.putIfAbsent(key, created);
+            if (existing == null) {
+                loadKeyed(key, created);
+                existing = created;
+            }
+        }
+        existing.lastAccess = System.nanoTime();
+        return existing.table.thenApply(KeyedTranslationTable.class::cast);
+    }
+
+    /**
+     * Starts the load of a keyed table that has just been added to the cache.
+     * A failed load is logged and removed from the cache, so that the next request loads the table again.
+     *
+     * @param key The {@link TranslationKey} of the table
+     * @param created The cache entry of the table
+     */
+    private void loadKeyed(TranslationKey key, CachedTable created) {
+        beginLoad();
+        CompletableFuture.supplyAsync(() -> loadKeyedTable(key), loaderExecutor).whenComplete((table, error) -> {
+            if (error != null) {
+                keyedTables.remove(key, created);
+                logger.log(Level.WARNING, "Could not load the keyed translations of " + key.language().getCode() + " for "
+                        + key.version().version() + ": " + rootCause(error));
+                created.table.completeExceptionally(error);
+                endLoad();
+                return;
+            }
+            created.weight = weigh(table);
+            created.lastAccess = System.nanoTime();
+            created.table.complete(table);
+            endLoad();
+            if (memoryBudget != Long.MAX_VALUE) {
+                loaderExecutor.execute(this::evictColdTables);
+            }
+        });
+    }
+
+    /**
+     * Loads the keyed table of a specific language and Minecraft version from the classpath bundles,
+     * the disk cache or, failing both, the network, in which case it is written to the disk cache.
+     *
+     * @param key The {@link TranslationKey} of the table to load
+     * @return The loaded {@link KeyedTranslationTable}
+     * @throws UncheckedIOException if the table cannot be downloaded or the language file is empty
+     */
+    private KeyedTranslationTable loadKeyedTable(TranslationKey key) {
+        Optional<KeyedTranslationTable> bundled = bundles.readKeyed(key, stringPool::intern);
+        if (bundled.isPresent()) {
+            return bundled.get();
+        }
+        DiskTranslationCache cache = diskCache;
+        if (cache != null) {
+            Optional<KeyedTranslationTable> cached = cache.readKeyed(key, stringPool::intern);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+        KeyedTranslationTable table;
+        try {
+            table = createLoader(key).fetchKeyedTable(stringPool::intern);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        if (table.keyCount() == 0) {
+            throw noTranslations(key);
+        }
+        if (cache != null) {
+            cache.writeKeyed(key, table);
+        }
+        return table;
+    }
+
+    /**
+     * Returns the fuzzy index of a table if it has already been built.
+     * <p>
+     * This method never blocks. If the table is loaded but not indexed yet, the index is built in the background
+     * and an empty Optional is returned until it is ready. Tables that are not loaded are not loaded by this method.
+     * </p>
+     *
+     * @param language The {@link SupportedLanguage} of the table
+     * @param version The {@link Version} of Minecraft of the table
+     * @return An {@link Optional} containing the index, or an empty Optional if it is not available yet
+     */
+    public Optional<FuzzyTranslationIndex> getFuzzyIndex(SupportedLanguage language, Version version) {
+        CachedTable cached = translations.get(new TranslationKey(language, version));
+        if (cached == null || !cached.isLoaded()) {
+            return Optional.empty();
+        }
+        cached.lastAccess = System.nanoTime();
+        CompletableFuture<FuzzyTranslationIndex> index = fuzzyIndex(cached);
+        return index.isCompletedExceptionally() ? Optional.empty() : Optional.ofNullable(index.getNow(null));
+    }
+
+    /**
+     * Retrieves the fuzzy index of a table without blocking, loading the table first if it is not cached.
+     *
+     * @param language The {@link SupportedLanguage} of the table
+     * @param version The {@link Version} of Minecraft of the table
+     * @return A {@link CompletableFuture} completed with the {@link FuzzyTranslationIndex} once it is built
+     */
+    public CompletableFuture<FuzzyTranslationIndex> getFuzzyIndexAsync(SupportedLanguage language, Version version) {
+        TranslationKey key = new TranslationKey(language, version);
+        return getTableAsync(language, version).thenCompose(table -> {
+            CachedTable cached = translations.get(key);
+            return cached != null ? fuzzyIndex(cached) : CompletableFuture.supplyAsync(
+                    () -> FuzzyTranslationIndex.of(table::get), loaderExecutor);
+        });
+    }
+
+    /**
+     * Returns the fuzzy index of a cached table, starting to build it on the background executor if needed.
+     * A table sharing the table of its fallback version shares its index as well.
+     *
+     * @param cached The cache entry of the table
+     * @return The future of the index
+     */
+    private CompletableFuture<FuzzyTranslationIndex> fuzzyIndex(CachedTable cached) {
+        if (cached.shared) {
+            CachedTable base = translations.get(cached.base);
+            if (base != null && base.table == cached.table) {
+                return fuzzyIndex(base);
+            }
+        }
+        CompletableFuture<FuzzyTranslationIndex> index = cached.fuzzyIndex;
+        if (index == null) {
+            synchronized (cached) {
+                index = cached.fuzzyIndex;
+                if (index == null) {
+                    index = cached.table.thenApplyAsync(table -> {
+                        FuzzyTranslationIndex built = FuzzyTranslationIndex.of(table::get);
+                        addWeight(cached, built.estimatedBytes());
+                        return built;
+                    }, loaderExecutor);
+                    cached.fuzzyIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns an estimate of the heap used by the loaded translation tables.
+     * <p>
+     * Translation values are deduplicated across all languages and versions as tables load;
+     * {@link MemoryFootprint#deduplicatedBytes()} shows how much heap this saved.
+     * Tables stored in {@link StorageMode#COMPACT} mode hold their values as UTF-8 bytes, which are
+     * counted in {@link MemoryFootprint#tableBytes()} rather than in the string pool.
+     * </p>
+     *
+     * @return The current {@link MemoryFootprint}
+     */
+    public MemoryFootprint getMemoryFootprint() {
+        int tables = 0;
+        long entries = 0;
+        long tableBytes = 0;
+        for (CachedTable cached : translations.values()) {
+            TranslationTable loaded = cached.isLoaded() && !cached.shared ? cached.table.join() : null;
+            if (loaded != null) {
+                tables++;
+                entries += loaded.size();
+                tableBytes += loaded.estimatedBytes();
+            }
+        }
+        for (CachedTable cached : keyedTables.values()) {
+            if (cached.isLoaded()) {
+                KeyedTranslationTable loaded = (KeyedTranslationTable) cached.table.join();
+                tables++;
+                entries += loaded.keyCount();
+                tableBytes += loaded.estimatedBytes();
+            }
+        }
+        return new MemoryFootprint(tables, entries, tableBytes, stringPool.size(), stringPool.retainedBytes(),
+                stringPool.savedBytes());
+    }
+
+    /**
+     * Returns the report describing how a table was loaded.
+     *
+     * @param language The {@link SupportedLanguage} of the table
+     * @param version The {@link Version} of Minecraft of the table
+     * @return An {@link Optional} containing the report, or an empty Optional if the table has not been loaded
+     */
+    public Optional<TranslationLoadReport> getLoadReport(SupportedLanguage language, Version version) {
+        return Optional.ofNullable(loadReports.get(new TranslationKey(language, version)));
+    }
+
+    /**
+     * Loads several languages of one Minecraft version in the background.
+     * <p>
+     * Up to {@link #DEFAULT_PREFETCH_CONCURRENCY} language files are downloaded at the same time.
+     * </p>
+     *
+     * @param languages The languages to load
+     * @param version The {@link Version} of Minecraft for which to load translations
+     * @return A {@link CompletableFuture} completed once every language has been loaded or has failed to load
+     * @see #prefetch(Collection, Version, int)
+     */
+    public CompletableFuture<Void> prefetch(Collection<SupportedLanguage> languages, Version version) {
+        return prefetch(languages, version, DEFAULT_PREFETCH_CONCURRENCY);
+    }
+
+    /**
+     * Loads several languages of one Minecraft version in the background, with bounded concurrency.
+     * <p>
+     * Tables found in a classpath bundle or in the disk cache are read from there. The other language files are requested through the
+     * shared {@link HttpClient}, so that over HTTP/2 they are multiplexed over a single connection, and their
+     * responses are parsed on the common {@link ForkJoinPool}. At most {@code maxConcurrency} tables are loaded
+     * at the same time. Tables that are already cached or being loaded are not loaded again.
+     * </p>
+     *
+     * @param languages The languages to load
      * @param version The {@link Version} of Minecraft for which to load translations
+     * @param maxConcurrency The maximum number of tables loaded at the same time
+     * @return A {@link CompletableFuture} completed once every language has been loaded or has failed to load
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public CompletableFuture<Void> prefetch(Collection<SupportedLanguage> languages, Version version, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        Queue<TranslationKey> queue = new ConcurrentLinkedQueue<>();
+        for (SupportedLanguage language : languages) {
+            queue.add(new TranslationKey(language, version));
+        }
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(maxConcurrency, queue.size())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = prefetchNext(queue);
+        }
+        return CompletableFuture.allOf(workers);
+    }
+
+    /**
+     * Loads the tables of a prefetch queue one after another until the queue is empty.
+     *
+     * @param queue The keys remaining to be loaded
+     * @return A {@link CompletableFuture} completed once the queue has been drained
+     */
+    private CompletableFuture<Void> prefetchNext(Queue<TranslationKey> queue) {
+        TranslationKey key = queue.poll();
+        if (key == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return request(key, this::fetchAsync)
+                .handle((translations, error) -> null)
+                .thenCompose(ignored -> prefetchNext(queue));
+    }
+
+    /**
+     * Returns the cached or in-flight load for the given key, starting a new load with the
+     * given function if no other caller has requested the key yet.
+     *
+     * @param key The {@link TranslationKey} to retrieve
+     * @param loader The function starting a new load of the key
+     * @return The future shared by all callers of this key
+     */
+    private CompletableFuture<TranslationTable> request(TranslationKey key,
+                                                        Function<TranslationKey, CompletableFuture<Map<Material, String>>> loader) {
+        CachedTable existing = translations.get(key);
+        if (existing == null) {
+            CachedTable created = new CachedTable();
+            existing = translations.putIfAbsent(key, created);
+            if (existing == null) {
+                load(key, created, loader);
+                return created.table;
+            }
+        }
+        existing.lastAccess = System.nanoTime();
+        return existing.table;
+    }
+
+    /**
+     * Starts the load of a table that has just been added to the cache.
+     *
+     * @param key The {@link TranslationKey} of the table
+     * @param created The cache entry of the table
+     * @param loader The function starting a new load of the key
+     */
+    private void load(TranslationKey key, CachedTable created,
+                      Function<TranslationKey, CompletableFuture<Map<Material, String>>> loader) {
+        if (evicted.remove(key)) {
+            reloads.increment();
+        }
+        beginLoad();
+        CompletableFuture<Map<Material, String>> load;
+        try {
+            load = loader.apply(key);
+        } catch (Throwable t) {
+            load = CompletableFuture.failedFuture(t);
+        }
+        load.handle((result, error) -> {
+            if (error == null) {
+                return install(key, result, created);
+            }
+            if (isMissing(error)) {
+                return install(key, Map.<Material, String>of(), created);
+            }
+            return CompletableFuture.<TranslationTable>failedFuture(error);
+        }).thenCompose(Function.identity()).whenComplete((table, error) -> {
+            if (error != null) {
+                translations.remove(key, created);
+                logger.log(Level.WARNING, "Could not load the translations of " + key.language().getCode() + " for "
+                        + key.version().version() + ": " + rootCause(error));
+                created.table.completeExceptionally(error);
+                endLoad();
+                return;
+            }
+            created.lastAccess = System.nanoTime();
+            created.table.complete(table);
+            endLoad();
+            if (fuzzyIndexing) {
+                fuzzyIndex(created);
+            }
+            if (memoryBudget != Long.MAX_VALUE) {
+                loaderExecutor.execute(this::evictColdTables);
+            }
+        });
+    }
+
+    /**
+     * Builds the table of freshly loaded translations, completing them from the fallback table of the version first.
+     * <p>
+     * If the version has a fallback, its table is requested like any other table, so it is shared with every
+     * version falling back to it. Missing translations are copied from it once here, so lookups never have to
+     * walk the fallback chain. If no translation was loaded at all, the fallback table itself is used.
+     * </p>
+     *
+     * @param key The {@link TranslationKey} of the table
+     * @param translations The loaded translations
+     * @param created The cache entry of the table, which records its base table and its weight
+     * @return A {@link CompletableFuture} completed with the table
+     */
+    private CompletableFuture<TranslationTable> install(TranslationKey key, Map<Material, String> translations,
+                                                        CachedTable created) {
+        Version fallback = fallbackFor(key.version());
+        if (fallback == null) {
+            return translations.isEmpty()
+                    ? CompletableFuture.failedFuture(noTranslations(key))
+                    : CompletableFuture.completedFuture(build(key, translations, created));
+        }
+        TranslationKey fallbackKey = new TranslationKey(key.language(), fallback);
+        return request(fallbackKey, this::fetchAsync).handle((fallbackTable, error) -> {
+            if (fallbackTable == null || fallbackTable.size() == 0) {
+                if (translations.isEmpty()) {
+                    throw noTranslations(key);
+                }
+                return build(key, translations, created);
+            }
+            if (translations.isEmpty()) {
+                created.base = fallbackKey;
+                created.shared = true;
+                created.weight = 0;
+                return fallbackTable;
+            }
+            Map<Material, String> completed = new EnumMap<>(Material.class);
+            completed.putAll(translations);
+            for (Material material : Material.values()) {
+                if (!completed.containsKey(material)) {
+                    String translation = fallbackTable.get(material);
+                    if (translation != null) {
+                        completed.put(material, translation);
+                    }
+                }
+            }
+            return build(key, completed, created);
+        });
+    }
+
+    /**
+     * Creates the failure of a load that found no translation at all, neither in the language file nor in
+     * the fallback table. Such loads are not cached, so the table is requested again next time.
+     *
+     * @param key The {@link TranslationKey} of the table
+     * @return The exception to fail the load with
+     */
+    private static UncheckedIOException noTranslations(TranslationKey key) {
+        return new UncheckedIOException(new FileNotFoundException("No translations found for "
+                + key.language().getCode() + " " + key.version().version()));
+    }
+
+    /**
+     * Returns whether a load failed because the language file does not exist, rather than because of an error
+     * that may not happen again, such as a timeout or a server error.
+     *
+     * @param error The failure of the load
+     * @return true if the source has no language file for the table
+     */
+    private static boolean isMissing(Throwable error) {
+        return rootCause(error) instanceof FileNotFoundException;
+    }
+
+    /**
+     * Unwraps the exceptions added by {@link CompletableFuture} and by unchecked wrappers of I/O errors.
+     *
+     * @param error The failure of a load
+     * @return The exception that caused it
+     */
+    private static Throwable rootCause(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof UncheckedIOException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Builds a table and records its weight.
+     *
+     * @param key The {@link TranslationKey} of the table
+     * @param translations The translations of the table
+     * @param created The cache entry of the table
+     * @return The new {@link TranslationTable}
+     */
+    private TranslationTable build(TranslationKey key, Map<Material, String> translations, CachedTable created) {
+        TranslationTable table = createTable(key, translations, created);
+        created.weight = weigh(table);
+        return table;
+    }
+
+    /**
+     * Returns the version a version falls back to: the nearest release for snapshots and pre-releases,
+     * then the configured fallback version.
+     *
+     * @param version The version of a table
+     * @return The fallback version, or null if the version has none
+     */
+    private Version fallbackFor(Version version) {
+        Version last = fallbackVersion;
+        if (version.equals(last)) {
+            return null;
+        }
+        if (versionFallback && !(version instanceof SupportedVersion.Release)) {
+            try {
+                Optional<SupportedVersion.Release> nearest = SupportedVersion.nearestRelease(version);
+                if (nearest.isPresent()) {
+                    return nearest.get();
+                }
+            } catch (IllegalArgumentException e) {
+                // Unrecognized custom version: only the configured fallback applies.
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Loads a table without blocking: the local sources are read on the loader executor and,
+     * if they don't have the table, it is downloaded asynchronously and parsed on the common {@link ForkJoinPool}.
+     *
+     * @param key The {@link TranslationKey} of the table to load
+     * @return A {@link CompletableFuture} completed with the translations
+     */
+    private CompletableFuture<Map<Material, String>> fetchAsync(TranslationKey key) {
+        long start = System.nanoTime();
+        DiskTranslationCache cache = diskCache;
+        return CompletableFuture.supplyAsync(() -> readLocal(key, start), loaderExecutor).thenCompose(local -> {
+            if (local.isPresent()) {
+                return CompletableFuture.completedFuture(local.get());
+            }
+            TranslationLoader loader = createLoader(key);
+            return loader.loadTranslationsAsync(ForkJoinPool.commonPool()).thenApply(translations -> {
+                recordLoad(key, TranslationLoadReport.Source.NETWORK, System.nanoTime() - start, loader.getParseNanos(), translations);
+                if (cache != null && !translations.isEmpty()) {
+                    cache.write(key, translations);
+                }
+                return translations;
+            });
+        });
+    }
+
+    /**
+     * Creates a loader for the given table using the configured HTTP client and source.
+     *
+     * @param key The {@link TranslationKey} of the table to load
+     * @return A new {@link TranslationLoader}
+     */
+    private TranslationLoader createLoader(TranslationKey key) {
+        return new TranslationLoader(key.language(), key.version(), httpClient, baseUrl);
+    }
+
+    /**
+     * Loads translations for a specific language and Minecraft version.
+     * This method is called internally when translations for a language are not yet cached in memory.
+     * <p>
+     * The bundles on the classpath and the disk cache are consulted first. Otherwise the table is downloaded
+     * with a {@link TranslationLoader} and, if it is not empty, written to the disk cache.
+     * </p>
+     *
+     * @param key The {@link TranslationKey} of the table to load
      * @return A {@link Map} where keys are {@link Material} objects and values are their translated names
+     * @throws UncheckedIOException if the table cannot be downloaded
+     */
+    private Map<Material, String> loadTranslations(TranslationKey key) {
+        long start = System.nanoTime();
+        Optional<Map<Material, String>> local = readLocal(key, start);
+        if (local.isPresent()) {
+            return local.get();
+        }
+        DiskTranslationCache cache = diskCache;
+        TranslationLoader loader = createLoader(key);
+        Map<Material, String> translations;
+        try {
+            translations = loader.fetchTranslations();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        recordLoad(key, TranslationLoadReport.Source.NETWORK, System.nanoTime() - start, loader.getParseNanos(), translations);
+        if (cache != null && !translations.isEmpty()) {
+            cache.write(key, translations);
+        }
+        return translations;
+    }
+
+    /**
+     * Builds the in-memory table of freshly loaded translations in the configured {@link StorageMode},
+     * or as differences from another loaded version of the language if few translations changed.
+     *
+     * @param key The {@link TranslationKey} of the table
+     * @param translations The loaded translations
+     * @param created The cache entry of the table, which records the base of a delta table
+     * @return The new {@link TranslationTable}
+     */
+    private TranslationTable createTable(TranslationKey key, Map<Material, String> translations, CachedTable created) {
+        StorageMode mode = storageMode;
+        if (mode == StorageMode.ARRAY) {
+            deduplicate(translations);
+        }
+        Map.Entry<TranslationKey, TranslationTable> base = findBase(key);
+        if (base != null && DeltaTranslationTable.countChanges(base.getValue(), translations)
+                <= Material.values().length / MAX_DELTA_FRACTION) {
+            created.base = base.getKey();
+            return DeltaTranslationTable.of(base.getValue(), translations);
+        }
+        return switch (mode) {
+            case ARRAY -> ArrayTranslationTable.of(translations);
+            case COMPACT -> CompactTranslationTable.of(translations);
+        };
+    }
+
+    /**
+     * Finds a full table of another version of the same language, to store a new version as differences from it.
+     *
+     * @param key The {@link TranslationKey} of the new table
+     * @return The key and table of the base, or null if no other version of the language is loaded in full
+     */
+    private Map.Entry<TranslationKey, TranslationTable> findBase(TranslationKey key) {
+        for (Map.Entry<TranslationKey, CachedTable> entry : translations.entrySet()) {
+            TranslationKey candidate = entry.getKey();
+            CachedTable cached = entry.getValue();
+            if (candidate.language() == key.language() && !candidate.equals(key) && cached.isLoaded()) {
+                TranslationTable table = cached.table.join();
+                if (!(table instanceof DeltaTranslationTable)) {
+                    return Map.entry(candidate, table);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Estimates the heap size of a table, as counted against the memory budget.
+     *
+     * @param table The loaded table
+     * @return The estimated size in bytes
+     */
+    private static long weigh(TranslationTable table) {
+        long bytes = table.estimatedBytes();
+        if (table instanceof ArrayTranslationTable) {
+            for (String translation : table.asMap().values()) {
+                bytes += StringPool.estimateSize(translation);
+            }
+        } else if (table instanceof DeltaTranslationTable delta) {
+            for (Material material : Material.values()) {
+                String translation = delta.get(material);
+                if (translation != null && translation != delta.base().get(material)) {
+                    bytes += StringPool.estimateSize(translation);
+                }
+            }
+        } else if (table instanceof KeyedTranslationTable keyed) {
+            LongAdder strings = new LongAdder();
+            keyed.forEachValue(translation -> strings.add(StringPool.estimateSize(translation)));
+            bytes += strings.sum();
+        }
+        return bytes;
+    }
+
+    /**
+     * Replaces the values of a freshly loaded table with their pooled instances,
+     * so that identical translations are shared between languages and versions.
+     *
+     * @param translations The loaded translations
+     * @return The {@code translations} map
+     */
+    private Map<Material, String> deduplicate(Map<Material, String> translations) {
+        if (!translations.isEmpty()) {
+            translations.replaceAll((material, translation) -> stringPool.intern(translation));
+        }
+        return translations;
+    }
+
+    /**
+     * Reads a table from the local sources: the bundles on the classpath first, then the disk cache.
+     *
+     * @param key The {@link TranslationKey} of the table to read
+     * @param start The {@link System#nanoTime()} at which the load started
+     * @return An {@link Optional} containing the translations, or an empty Optional if no local source has the table
+     */
+    private Optional<Map<Material, String>> readLocal(TranslationKey key, long start) {
+        Optional<Map<Material, String>> bundled = bundles.read(key);
+        if (bundled.isPresent()) {
+            long elapsed = System.nanoTime() - start;
+            recordLoad(key, TranslationLoadReport.Source.CLASSPATH, elapsed, elapsed, bundled.get());
+            return bundled;
+        }
+        DiskTranslationCache cache = diskCache;
+        if (cache != null) {
+            Optional<Map<Material, String>> cached = cache.read(key);
+            if (cached.isPresent()) {
+                long elapsed = System.nanoTime() - start;
+                recordLoad(key, TranslationLoadReport.Source.DISK_CACHE, elapsed, elapsed, cached.get());
+                return cached;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Records how a table was loaded.
+     *
+     * @param key The {@link TranslationKey} of the table
+     * @param source The source the table was loaded from
+     * @param loadNanos The total load time in nanoseconds
+     * @param parseNanos The parse time in nanoseconds
+     * @param translations The loaded translations
+     */
+    private void recordLoad(TranslationKey key, TranslationLoadReport.Source source, long loadNanos, long parseNanos,
+                            Map<Material, String> translations) {
+        loadReports.put(key, new TranslationLoadReport(key, source, loadNanos, parseNanos, translations.size()));
+        loadLatency.get(source).record(loadNanos);
+    }
+
+    /**
+     * A table held by the cache, with the information needed to evict it.
      */
-    private Map<Material, String> loadTranslations(SupportedLanguage language, Version version) {
-        TranslationLoader loader = new TranslationLoader(language, version);
-        return loader.loadTranslations();
+    private static final class CachedTable {
+
+        /** The load of the table, shared by all callers. */
+        final CompletableFuture<TranslationTable> table = new CompletableFuture<>();
+
+        /**
+         * The estimated size of the table, counted against the memory budget, in bytes.
+         * It is set before the table completes, and only changed afterwards through {@link TranslationManager#addWeight(CachedTable, long)}.
+         */
+        volatile long weight;
+
+        /** The {@link System#nanoTime()} at which the table was last used. */
+        volatile long lastAccess = System.nanoTime();
+
+        /**
+         * The key of the table this one depends on, if it is stored as a {@link DeltaTranslationTable}
+         * or shares its fallback table, null otherwise.
+         */
+        volatile TranslationKey base;
+
+        /** Whether the table is the fallback table of {@link #base}, cached under another key. */
+        volatile boolean shared;
+
+        /** The fuzzy index of the table, null until it is first requested. */
+        volatile CompletableFuture<FuzzyTranslationIndex> fuzzyIndex;
+
+        /**
+         * Returns whether the table has been loaded successfully.
+         *
+         * @return true if the table is available
+         */
+        boolean isLoaded() {
+            return table.isDone() && !table.isCompletedExceptionally();
+        }
     }
+
+    /**
+     * A loaded table considered for eviction, with the time it had been idle when the eviction started.
+     *
+     * @param key The {@link TranslationKey} of the table
+     * @param table The cache entry of the table
+     * @param idleNanos The idle time of the table in nanoseconds
+     * @param keyed Whether the table is a {@link KeyedTranslationTable}, held in {@link #keyedTables}
+     */
+    private record EvictionCandidate(TranslationKey key, CachedTable table, long idleNanos, boolean keyed) {}
 }
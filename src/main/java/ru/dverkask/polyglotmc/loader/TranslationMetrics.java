@@ -0,0 +1,25 @@
+package ru.dverkask.polyglotmc.loader;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A snapshot of the metrics of {@link TranslationManager}, intended to be exported to a monitoring system.
+ *
+ * @param loadLatency The histogram of the load times of tables, per source they were loaded from.
+ *                    A load falling back to another version is counted under the source of its own file.
+ * @param tables The size of each loaded table.
+ * @param eviction The counters of the eviction of cold tables.
+ * @param memory The estimated heap used by all tables and the shared string pool.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see TranslationManager#getMetrics()
+ */
+public record TranslationMetrics(
+        Map<TranslationLoadReport.Source, LatencyHistogram.Snapshot> loadLatency,
+        List<TableMetrics> tables,
+        EvictionStatistics eviction,
+        MemoryFootprint memory
+) {}
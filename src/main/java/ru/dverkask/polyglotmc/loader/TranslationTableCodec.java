@@ -0,0 +1,161 @@
+package ru.dverkask.polyglotmc.loader;
+
+import org.bukkit.Material;
+import ru.dverkask.polyglotmc.table.KeyedTranslationTable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Reads and writes translation tables in the compact binary format used by PolyglotMC caches.
+ * <p>
+ * The format consists of a magic number, a format version, the number of entries and then
+ * each entry as a pair of modified UTF-8 strings: the {@link Material} name and its translation.
+ * Materials are stored by name rather than by ordinal, so a table stays valid across server versions;
+ * names unknown to the running server are skipped when reading.
+ * </p>
+ * <p>
+ * A {@link KeyedTranslationTable} is stored under its own magic number as every translation key with its
+ * translation, followed by the translated materials in the format above.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+final class TranslationTableCodec {
+
+    /** The magic number identifying a PolyglotMC translation table ("PMCT"). */
+    static final int MAGIC = 0x504D4354;
+
+    /** The magic number identifying a PolyglotMC keyed translation table ("PMCK"). */
+    static final int KEYED_MAGIC = 0x504D434B;
+
+    /** The version of the binary format. Tables written with another version are rejected. */
+    static final int FORMAT_VERSION = 1;
+
+    private TranslationTableCodec() {
+    }
+
+    /**
+     * Writes a translation table to the given stream.
+     * The stream is flushed but not closed.
+     *
+     * @param translations The translations to write.
+     * @param out The {@link OutputStream} to write to.
+     * @throws IOException If an I/O error occurs.
+     */
+    static void write(Map<Material, String> translations, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+        writeMaterials(translations, data);
+        data.flush();
+    }
+
+    /**
+     * Writes a keyed translation table to the given stream.
+     * The stream is flushed but not closed.
+     *
+     * @param table The {@link KeyedTranslationTable} to write.
+     * @param out The {@link OutputStream} to write to.
+     * @throws IOException If an I/O error occurs.
+     */
+    static void writeKeyed(KeyedTranslationTable table, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(KEYED_MAGIC);
+        data.writeShort(FORMAT_VERSION);
+        data.writeInt(table.keyCount());
+        try {
+            table.forEach((key, translation) -> {
+                try {
+                    data.writeUTF(key);
+                    data.writeUTF(translation);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writeMaterials(table.asMap(), data);
+        data.flush();
+    }
+
+    private static void writeMaterials(Map<Material, String> translations, DataOutputStream data) throws IOException {
+        data.writeInt(translations.size());
+        for (Map.Entry<Material, String> entry : translations.entrySet()) {
+            data.writeUTF(entry.getKey().name());
+            data.writeUTF(entry.getValue());
+        }
+    }
+
+    /**
+     * Reads a translation table from the given stream.
+     * The stream is not closed.
+     *
+     * @param in The {@link InputStream} to read from.
+     * @return A {@link Map} where keys are {@link Material} objects and values are their translated names.
+     * @throws IOException If an I/O error occurs or the stream is not a supported translation table.
+     */
+    static Map<Material, String> read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        readHeader(data, MAGIC);
+        int size = data.readInt();
+        Map<Material, String> translations = new EnumMap<>(Material.class);
+        for (int i = 0; i < size; i++) {
+            Material material = Material.getMaterial(data.readUTF());
+            String translation = data.readUTF();
+            if (material != null) {
+                translations.put(material, translation);
+            }
+        }
+        return translations;
+    }
+
+    /**
+     * Reads a keyed translation table from the given stream.
+     * The stream is not closed.
+     *
+     * @param in The {@link InputStream} to read from.
+     * @param valueMapper A function applied to each translation before it is stored, for example to deduplicate it.
+     * @return The {@link KeyedTranslationTable} read from the stream.
+     * @throws IOException If an I/O error occurs or the stream is not a supported keyed translation table.
+     */
+    static KeyedTranslationTable readKeyed(InputStream in, UnaryOperator<String> valueMapper) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        readHeader(data, KEYED_MAGIC);
+        KeyedTranslationTable.Builder table = KeyedTranslationTable.builder();
+        int keys = data.readInt();
+        for (int i = 0; i < keys; i++) {
+            String key = data.readUTF();
+            table.add(key, valueMapper.apply(data.readUTF()));
+        }
+        int materials = data.readInt();
+        for (int i = 0; i < materials; i++) {
+            Material material = Material.getMaterial(data.readUTF());
+            String translation = valueMapper.apply(data.readUTF());
+            if (material != null) {
+                table.material(material, translation);
+            }
+        }
+        return table.build();
+    }
+
+    private static void readHeader(DataInputStream data, int magic) throws IOException {
+        if (data.readInt() != magic) {
+            throw new IOException("Not a PolyglotMC translation table");
+        }
+        int formatVersion = data.readUnsignedShort();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported translation table format version " + formatVersion);
+        }
+    }
+}
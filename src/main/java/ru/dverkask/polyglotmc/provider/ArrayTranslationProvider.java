@@ -0,0 +1,173 @@
+package ru.dverkask.polyglotmc.provider;
+
+import org.bukkit.Material;
+import ru.dverkask.polyglotmc.api.TranslationProvider;
+import ru.dverkask.polyglotmc.api.TranslationResult;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.loader.TranslationManager;
+import ru.dverkask.polyglotmc.table.ArrayTranslationTable;
+import ru.dverkask.polyglotmc.table.TranslationTable;
+import ru.dverkask.polyglotmc.version.Version;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An implementation of {@link TranslationProvider} that stores translations in a flat array
+ * indexed by {@link Material#ordinal()}.
+ * <p>
+ * Since {@link Material} is an enum, a translation can be found with a single array load instead of
+ * hashing and probing a map. The array holds one reference per material, which is also considerably
+ * lighter than the entries of a {@link java.util.HashMap}. The provider serves lookups from the array of its
+ * {@link ArrayTranslationTable} without copying it, so a loaded language is held in memory only once.
+ * </p>
+ * <p>
+ * Because the translations of a loaded table never change, the provider also caches one immutable
+ * {@link TranslationResult} per material for its language, created on the first lookup of the material,
+ * and returns the same instance on later lookups.
+ * </p>
+ * <p>
+ * This is the default provider created by {@link ru.dverkask.polyglotmc.api.Polyglot.Builder}.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+public class ArrayTranslationProvider implements TranslationProvider {
+
+    /**
+     * The translated names of all materials, indexed by {@link Material#ordinal()}, shared with the table they
+     * belong to. Materials without a translation have a null element.
+     * It is null if the table is not an {@link ArrayTranslationTable}, in which case {@link #table} is read instead.
+     */
+    private final String[] translations;
+
+    /**
+     * The table holding the translations.
+     */
+    private final TranslationTable table;
+
+    /**
+     * The language of the translations.
+     */
+    private final SupportedLanguage language;
+
+    /**
+     * The results for the materials in {@link #language} looked up so far, indexed by {@link Material#ordinal()}.
+     * <p>
+     * Results are immutable, so two threads racing to create the result of a material are harmless:
+     * both get a correct result and one of them is kept.
+     * </p>
+     */
+    private final TranslationResult[] results;
+
+    /**
+     * Constructs a new ArrayTranslationProvider for the specified language and game version.
+     *
+     * @param language The {@link SupportedLanguage} for which to provide translations
+     * @param version The {@link Version} of Minecraft for which to provide translations
+     * @throws IllegalArgumentException if the language or version is not supported
+     * @throws java.util.concurrent.CompletionException if the translations cannot be loaded
+     */
+    public ArrayTranslationProvider(SupportedLanguage language, Version version) {
+        this(language, TranslationManager.getInstance().getTable(language, version));
+    }
+
+    /**
+     * Constructs a new ArrayTranslationProvider from already loaded translations.
+     *
+     * @param language The {@link SupportedLanguage} of the translations
+     * @param translations A {@link Map} where keys are {@link Material} objects and values are their translated names
+     */
+    public ArrayTranslationProvider(SupportedLanguage language, Map<Material, String> translations) {
+        this(language, ArrayTranslationTable.of(translations));
+    }
+
+    /**
+     * Constructs a new ArrayTranslationProvider from a loaded translation table.
+     * <p>
+     * The translations are not copied. An {@link ArrayTranslationTable} is served from its array directly;
+     * any other table, such as a version stored as differences from another one, is read on each lookup.
+     * Use {@link CompactTranslationProvider} for tables stored in
+     * {@link ru.dverkask.polyglotmc.table.StorageMode#COMPACT COMPACT} mode.
+     * </p>
+     *
+     * @param language The {@link SupportedLanguage} of the translations
+     * @param table The {@link TranslationTable} holding the translations
+     */
+    public ArrayTranslationProvider(SupportedLanguage language, TranslationTable table) {
+        this.language = language;
+        this.table = table;
+        this.translations = table instanceof ArrayTranslationTable array ? array.translations() : null;
+        this.results = new TranslationResult[Material.values().length];
+    }
+
+    /**
+     * Retrieves the translation for the specified Minecraft material.
+     *
+     * @param item The {@link Material} for which to get the translation
+     * @return An {@link Optional} containing the translated name of the material,
+     *         or an empty Optional if no translation is available
+     */
+    @Override
+    public Optional<String> getTranslation(Material item) {
+        return Optional.ofNullable(getTranslationOrNull(item));
+    }
+
+    /**
+     * Retrieves the translation for the specified Minecraft material with a single array load.
+     *
+     * @param item The {@link Material} for which to get the translation
+     * @return The translated name of the material, or null if no translation is available
+     */
+    @Override
+    public String getTranslationOrNull(Material item) {
+        String[] translations = this.translations;
+        return translations != null ? translations[item.ordinal()] : table.get(item);
+    }
+
+    /**
+     * Retrieves the translations of several Minecraft materials with one array load each.
+     *
+     * @param items The materials to translate
+     * @param target The array receiving the translations, or null for materials without a translation
+     */
+    @Override
+    public void getTranslationsOrNull(Material[] items, String[] target) {
+        String[] translations = this.translations;
+        if (translations == null) {
+            for (int i = 0; i < items.length; i++) {
+                target[i] = table.get(items[i]);
+            }
+            return;
+        }
+        for (int i = 0; i < items.length; i++) {
+            target[i] = translations[items[i].ordinal()];
+        }
+    }
+
+    /**
+     * Retrieves the result of translating the specified Minecraft material.
+     * <p>
+     * For the language of this provider, the result is created on the first lookup of the material
+     * and the same instance is returned afterwards.
+     * </p>
+     *
+     * @param item The {@link Material} for which to get the translation
+     * @param language The language reported in the result
+     * @return A {@link TranslationResult} containing the original and translated names
+     */
+    @Override
+    public TranslationResult getResult(Material item, SupportedLanguage language) {
+        if (language == this.language) {
+            TranslationResult result = results[item.ordinal()];
+            if (result == null) {
+                result = TranslationProvider.super.getResult(item, language);
+                results[item.ordinal()] = result;
+            }
+            return result;
+        }
+        return TranslationProvider.super.getResult(item, language);
+    }
+}
@@ -34,9 +34,23 @@ public class CacheTranslationProvider implements TranslationProvider {
      * @param language The {@link SupportedLanguage} for which to provide translations
      * @param version The {@link Version} of Minecraft for which to provide translations
      * @throws IllegalArgumentException if the language or version is not supported
+     * @throws java.util.concurrent.CompletionException if the translations cannot be loaded
      */
     public CacheTranslationProvider(SupportedLanguage language, Version version) {
-        this.translations = TranslationManager.getInstance().getTranslations(language, version);
+        this(TranslationManager.getInstance().getTranslations(language, version));
+    }
+
+    /**
+     * Constructs a new CacheTranslationProvider backed by already loaded translations.
+     * <p>
+     * This is used when the translations were obtained asynchronously, for example
+     * through {@link TranslationManager#getTranslationsAsync(SupportedLanguage, Version)}.
+     * </p>
+     *
+     * @param translations A {@link Map} where keys are {@link Material} objects and values are their translated names
+     */
+    public CacheTranslationProvider(Map<Material, String> translations) {
+        this.translations = translations;
     }
 
     /**
@@ -48,6 +62,17 @@ public class CacheTranslationProvider implements TranslationProvider {
      */
     @Override
     public Optional<String> getTranslation(Material item) {
-        return Optional.ofNullable(translations.get(item));
+        return Optional.ofNullable(getTranslationOrNull(item));
+    }
+
+    /**
+     * Retrieves the translation for the specified Minecraft material directly from the cached map.
+     *
+     * @param item The {@link Material} for which to get the translation
+     * @return The translated name of the material, or null if no translation is available
+     */
+    @Override
+    public String getTranslationOrNull(Material item) {
+        return translations.get(item);
     }
 }
@@ -0,0 +1,61 @@
+package ru.dverkask.polyglotmc.provider;
+
+import org.bukkit.Material;
+import ru.dverkask.polyglotmc.api.TranslationProvider;
+import ru.dverkask.polyglotmc.table.TranslationTable;
+
+import java.util.Optional;
+
+/**
+ * An implementation of {@link TranslationProvider} that reads translations directly from a {@link TranslationTable}.
+ * <p>
+ * Unlike {@link ArrayTranslationProvider}, this provider does not cache results, so it adds nothing to the heap
+ * used by the table. It is created by
+ * {@link ru.dverkask.polyglotmc.api.Polyglot.Builder} for tables stored in
+ * {@link ru.dverkask.polyglotmc.table.StorageMode#COMPACT COMPACT} mode, whose translations are decoded on demand,
+ * including version tables stored as differences from a compact table.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+public class CompactTranslationProvider implements TranslationProvider {
+
+    /**
+     * The table holding the translations.
+     */
+    private final TranslationTable table;
+
+    /**
+     * Constructs a new CompactTranslationProvider over a loaded translation table.
+     *
+     * @param table The {@link TranslationTable} holding the translations
+     */
+    public CompactTranslationProvider(TranslationTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Retrieves the translation for the specified Minecraft material.
+     *
+     * @param item The {@link Material} for which to get the translation
+     * @return An {@link Optional} containing the translated name of the material,
+     *         or an empty Optional if no translation is available
+     */
+    @Override
+    public Optional<String> getTranslation(Material item) {
+        return Optional.ofNullable(table.get(item));
+    }
+
+    /**
+     * Retrieves the translation for the specified Minecraft material from the table.
+     *
+     * @param item The {@link Material} for which to get the translation
+     * @return The translated name of the material, or null if no translation is available
+     */
+    @Override
+    public String getTranslationOrNull(Material item) {
+        return table.get(item);
+    }
+}
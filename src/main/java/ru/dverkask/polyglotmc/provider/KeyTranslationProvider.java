@@ -0,0 +1,122 @@
+package ru.dverkask.polyglotmc.provider;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import ru.dverkask.polyglotmc.api.TranslationProvider;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.loader.TranslationManager;
+import ru.dverkask.polyglotmc.table.KeyedTranslationTable;
+import ru.dverkask.polyglotmc.version.Version;
+
+import java.util.Optional;
+
+/**
+ * An implementation of {@link TranslationProvider} that serves every key of a language file,
+ * not only the names of materials.
+ * <p>
+ * Besides materials, this provider translates entities, enchantments, effects, biomes and any other game
+ * object, either by raw translation key or by category and {@link NamespacedKey}:
+ * </p>
+ * <pre>
+ * provider.getTranslationOrNull("entity", entity.getType().getKey()); // "Zombie"
+ * provider.getTranslationOrNull("enchantment.minecraft.sharpness");  // "Sharpness"
+ * </pre>
+ * <p>
+ * All lookups are backed by a {@link KeyedTranslationTable} and do not allocate.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+public class KeyTranslationProvider implements TranslationProvider {
+
+    /**
+     * The table holding every key of the language file.
+     */
+    private final KeyedTranslationTable table;
+
+    /**
+     * Constructs a new KeyTranslationProvider for the specified language and game version.
+     *
+     * @param language The {@link SupportedLanguage} for which to provide translations
+     * @param version The {@link Version} of Minecraft for which to provide translations
+     */
+    public KeyTranslationProvider(SupportedLanguage language, Version version) {
+        this(TranslationManager.getInstance().getKeyedTable(language, version));
+    }
+
+    /**
+     * Constructs a new KeyTranslationProvider over a loaded table.
+     *
+     * @param table The {@link KeyedTranslationTable} holding the translations
+     */
+    public KeyTranslationProvider(KeyedTranslationTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Retrieves the translation for the specified Minecraft material.
+     *
+     * @param item The {@link Material} for which to get the translation
+     * @return An {@link Optional} containing the translated name of the material,
+     *         or an empty Optional if no translation is available
+     */
+    @Override
+    public Optional<String> getTranslation(Material item) {
+        return Optional.ofNullable(table.get(item));
+    }
+
+    /**
+     * Retrieves the translation for the specified Minecraft material with a single array load.
+     *
+     * @param item The {@link Material} for which to get the translation
+     * @return The translated name of the material, or null if no translation is available
+     */
+    @Override
+    public String getTranslationOrNull(Material item) {
+        return table.get(item);
+    }
+
+    /**
+     * Retrieves the translation of a key of the language file.
+     *
+     * @param key The full translation key, for example {@code entity.minecraft.zombie}
+     * @return An {@link Optional} containing the translation, or an empty Optional if the key is unknown
+     */
+    public Optional<String> getTranslation(String key) {
+        return Optional.ofNullable(table.get(key));
+    }
+
+    /**
+     * Retrieves the translation of a key of the language file without allocating.
+     *
+     * @param key The full translation key, for example {@code entity.minecraft.zombie}
+     * @return The translation, or null if the key is unknown
+     */
+    public String getTranslationOrNull(String key) {
+        return table.get(key);
+    }
+
+    /**
+     * Retrieves the translation of a namespaced game object.
+     *
+     * @param category The category of the translation key, such as "entity", "enchantment", "effect" or "biome"
+     * @param key The {@link NamespacedKey} of the game object
+     * @return An {@link Optional} containing the translation, or an empty Optional if the key is unknown
+     */
+    public Optional<String> getTranslation(String category, NamespacedKey key) {
+        return Optional.ofNullable(table.get(category, key));
+    }
+
+    /**
+     * Retrieves the translation of a namespaced game object without allocating.
+     *
+     * @param category The category of the translation key, such as "entity", "enchantment", "effect" or "biome"
+     * @param key The {@link NamespacedKey} of the game object
+     * @return The translation, or null if the key is unknown
+     */
+    public String getTranslationOrNull(String category, NamespacedKey key) {
+        return table.get(category, key);
+    }
+}
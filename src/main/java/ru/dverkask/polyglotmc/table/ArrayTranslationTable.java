@@ -0,0 +1,80 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+
+import java.util.Map;
+
+/**
+ * A {@link TranslationTable} storing translations in an array indexed by {@link Material#ordinal()}.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see StorageMode#ARRAY
+ */
+public final class ArrayTranslationTable implements TranslationTable {
+
+    /**
+     * The translated names, indexed by {@link Material#ordinal()}.
+     */
+    private final String[] translations;
+
+    /**
+     * The number of non-null elements of {@link #translations}.
+     */
+    private final int size;
+
+    private ArrayTranslationTable(String[] translations, int size) {
+        this.translations = translations;
+        this.size = size;
+    }
+
+    /**
+     * Creates a table from loaded translations.
+     *
+     * @param translations A {@link Map} where keys are {@link Material} objects and values are their translated names.
+     * @return A new {@link ArrayTranslationTable}.
+     */
+    public static ArrayTranslationTable of(Map<Material, String> translations) {
+        String[] values = new String[Material.values().length];
+        int size = 0;
+        for (Map.Entry<Material, String> entry : translations.entrySet()) {
+            if (entry.getValue() != null && values[entry.getKey().ordinal()] == null) {
+                size++;
+            }
+            values[entry.getKey().ordinal()] = entry.getValue();
+        }
+        return new ArrayTranslationTable(values, size);
+    }
+
+    /**
+     * Returns the array backing this table, so that providers can serve lookups from it without copying it.
+     * <p>
+     * The array is shared, not copied: it must not be modified.
+     * </p>
+     *
+     * @return The translated names, indexed by {@link Material#ordinal()}, with null for materials without a translation.
+     */
+    public String[] translations() {
+        return translations;
+    }
+
+    @Override
+    public String get(Material item) {
+        return translations[item.ordinal()];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return 16L + 16L + align(4L * translations.length);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
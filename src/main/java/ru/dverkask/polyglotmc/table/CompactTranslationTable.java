@@ -0,0 +1,178 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link TranslationTable} storing all translations as one contiguous UTF-8 byte array.
+ * <p>
+ * An {@code int[]} index holds, for each {@link Material#ordinal()}, the offset of its translation in the
+ * byte array; the translation ends where the next one starts. A table therefore costs one byte array and
+ * one int array instead of one {@link String} object, backing array and reference per translation.
+ * Strings are decoded on each lookup. A small direct-mapped cache can keep the most recently decoded
+ * strings, so that repeated lookups of the same items do not decode them again. The cache is made of two
+ * parallel arrays of slots, so that filling it allocates nothing but the decoded string.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see StorageMode#COMPACT
+ */
+public final class CompactTranslationTable implements TranslationTable {
+
+    /** The default number of entries of the decoded string cache. */
+    public static final int DEFAULT_HOT_CACHE_SIZE = 64;
+
+    /**
+     * The UTF-8 encoded translations, one after another in ordinal order.
+     */
+    private final byte[] data;
+
+    /**
+     * The start offset of each translation in {@link #data}, indexed by {@link Material#ordinal()},
+     * followed by the length of {@link #data}. A material without translation has an empty range.
+     */
+    private final int[] offsets;
+
+    /**
+     * The number of translated materials.
+     */
+    private final int size;
+
+    /** The ordinal bits of an empty slot of the hot cache. */
+    private static final long EMPTY = 0xFFFF_FFFFL;
+
+    /** The ordinal bits of a slot of the hot cache being filled. */
+    private static final long FILLING = 0xFFFF_FFFEL;
+
+    /** The ordinal bits of a slot stamp. */
+    private static final long ORDINAL_MASK = 0xFFFF_FFFFL;
+
+    /**
+     * The recently decoded translations, indexed by ordinal modulo the cache size, or null if caching is disabled.
+     */
+    private final AtomicReferenceArray<String> hotCache;
+
+    /**
+     * The stamps of the slots of {@link #hotCache}: the ordinal of the cached translation in the low 32 bits,
+     * or {@link #EMPTY} or {@link #FILLING}, and in the high 32 bits a version incremented each time the slot
+     * is filled. A reader only uses a translation if the stamp of its slot is the same before and after reading it,
+     * so a translation is never returned for another ordinal, even while other threads fill the slot.
+     */
+    private final AtomicLongArray hotCacheStamps;
+
+    /** A mask mapping an ordinal to its slot in {@link #hotCache}. */
+    private final int hotCacheMask;
+
+    private CompactTranslationTable(byte[] data, int[] offsets, int size, int hotCacheSize) {
+        this.data = data;
+        this.offsets = offsets;
+        this.size = size;
+        if (hotCacheSize > 0) {
+            long[] stamps = new long[hotCacheSize];
+            Arrays.fill(stamps, EMPTY);
+            this.hotCache = new AtomicReferenceArray<>(hotCacheSize);
+            this.hotCacheStamps = new AtomicLongArray(stamps);
+        } else {
+            this.hotCache = null;
+            this.hotCacheStamps = null;
+        }
+        this.hotCacheMask = hotCacheSize - 1;
+    }
+
+    /**
+     * Creates a table from loaded translations, with a decoded string cache of {@link #DEFAULT_HOT_CACHE_SIZE} entries.
+     *
+     * @param translations A {@link Map} where keys are {@link Material} objects and values are their translated names.
+     * @return A new {@link CompactTranslationTable}.
+     */
+    public static CompactTranslationTable of(Map<Material, String> translations) {
+        return of(translations, DEFAULT_HOT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a table from loaded translations.
+     *
+     * @param translations A {@link Map} where keys are {@link Material} objects and values are their translated names.
+     * @param hotCacheSize The number of decoded strings to cache; a power of two, or 0 to disable the cache.
+     * @return A new {@link CompactTranslationTable}.
+     * @throws IllegalArgumentException if {@code hotCacheSize} is negative or not a power of two.
+     */
+    public static CompactTranslationTable of(Map<Material, String> translations, int hotCacheSize) {
+        if (hotCacheSize < 0 || (hotCacheSize & (hotCacheSize - 1)) != 0) {
+            throw new IllegalArgumentException("hotCacheSize must be 0 or a power of two");
+        }
+        Material[] materials = Material.values();
+        int[] offsets = new int[materials.length + 1];
+        ByteArrayOutputStream data = new ByteArrayOutputStream(translations.size() * 16);
+        int size = 0;
+        for (Material material : materials) {
+            offsets[material.ordinal()] = data.size();
+            String translation = translations.get(material);
+            if (translation != null && !translation.isEmpty()) {
+                data.writeBytes(translation.getBytes(StandardCharsets.UTF_8));
+                size++;
+            }
+        }
+        offsets[materials.length] = data.size();
+        return new CompactTranslationTable(data.toByteArray(), offsets, size, hotCacheSize);
+    }
+
+    @Override
+    public String get(Material item) {
+        int ordinal = item.ordinal();
+        int start = offsets[ordinal];
+        int end = offsets[ordinal + 1];
+        if (start == end) {
+            return null;
+        }
+        if (hotCache == null) {
+            return new String(data, start, end - start, StandardCharsets.UTF_8);
+        }
+        int slot = ordinal & hotCacheMask;
+        long stamp = hotCacheStamps.get(slot);
+        if ((stamp & ORDINAL_MASK) == ordinal) {
+            String cached = hotCache.get(slot);
+            if (hotCacheStamps.get(slot) == stamp) {
+                return cached;
+            }
+        }
+        String translation = new String(data, start, end - start, StandardCharsets.UTF_8);
+        long version = stamp & ~ORDINAL_MASK;
+        if ((stamp & ORDINAL_MASK) != FILLING && hotCacheStamps.compareAndSet(slot, stamp, version | FILLING)) {
+            hotCache.set(slot, translation);
+            hotCacheStamps.set(slot, (version + (1L << 32)) | ordinal);
+        }
+        return translation;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isCompact() {
+        return true;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        long bytes = 16L + align(16L + data.length) + align(16L + 4L * offsets.length);
+        if (hotCache != null) {
+            bytes += 16L + align(16L + 4L * hotCache.length()) + 16L + align(16L + 8L * hotCache.length());
+        }
+        return bytes;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
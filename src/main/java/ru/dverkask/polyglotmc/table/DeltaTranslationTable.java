@@ -0,0 +1,175 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link TranslationTable} storing only the differences between a game version and another version
+ * of the same language, its base table.
+ * <p>
+ * The translations of consecutive game versions are nearly identical, so holding a full table per version
+ * mostly duplicates data. A delta table keeps a bitmask with one bit per {@link Material#ordinal()} marking the
+ * materials whose translation was added, changed or removed, and the new translations of those materials only.
+ * A lookup checks the bit of the material: if it is clear, the translation is read from the base table;
+ * otherwise its index among the changed translations is the number of bits set before it, which is computed
+ * from a precomputed count per 64-bit word and one bit count. Both paths are constant time.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+public final class DeltaTranslationTable implements TranslationTable {
+
+    /**
+     * The table holding the translations that did not change.
+     */
+    private final TranslationTable base;
+
+    /**
+     * The materials whose translation differs from the base table, one bit per {@link Material#ordinal()}.
+     */
+    private final long[] changed;
+
+    /**
+     * The number of bits set in {@link #changed} before each word.
+     */
+    private final int[] ranks;
+
+    /**
+     * The translations of the changed materials in ordinal order, null for removed translations.
+     */
+    private final String[] translations;
+
+    /**
+     * The number of translated materials.
+     */
+    private final int size;
+
+    private DeltaTranslationTable(TranslationTable base, long[] changed, int[] ranks, String[] translations, int size) {
+        this.base = base;
+        this.changed = changed;
+        this.ranks = ranks;
+        this.translations = translations;
+        this.size = size;
+    }
+
+    /**
+     * Counts the materials whose translation differs between a base table and loaded translations.
+     *
+     * @param base The base table.
+     * @param translations A {@link Map} where keys are {@link Material} objects and values are their translated names.
+     * @return The number of added, changed and removed translations.
+     */
+    public static int countChanges(TranslationTable base, Map<Material, String> translations) {
+        int changes = 0;
+        for (Material material : Material.values()) {
+            if (!Objects.equals(base.get(material), translations.get(material))) {
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Creates a table holding loaded translations as differences from a base table.
+     *
+     * @param base The base table, which must not itself be a {@link DeltaTranslationTable}.
+     * @param translations A {@link Map} where keys are {@link Material} objects and values are their translated names.
+     * @return A new {@link DeltaTranslationTable}.
+     * @throws IllegalArgumentException if {@code base} is a {@link DeltaTranslationTable}.
+     */
+    public static DeltaTranslationTable of(TranslationTable base, Map<Material, String> translations) {
+        if (base instanceof DeltaTranslationTable) {
+            throw new IllegalArgumentException("The base table must not be a delta table");
+        }
+        Material[] materials = Material.values();
+        long[] changed = new long[(materials.length + 63) >>> 6];
+        int changes = 0;
+        int size = 0;
+        for (Material material : materials) {
+            String translation = translations.get(material);
+            if (translation != null) {
+                size++;
+            }
+            if (!Objects.equals(base.get(material), translation)) {
+                changed[material.ordinal() >>> 6] |= 1L << material.ordinal();
+                changes++;
+            }
+        }
+        int[] ranks = new int[changed.length];
+        for (int word = 1; word < changed.length; word++) {
+            ranks[word] = ranks[word - 1] + Long.bitCount(changed[word - 1]);
+        }
+        String[] values = new String[changes];
+        int index = 0;
+        for (Material material : materials) {
+            if ((changed[material.ordinal() >>> 6] & (1L << material.ordinal())) != 0) {
+                values[index++] = translations.get(material);
+            }
+        }
+        return new DeltaTranslationTable(base, changed, ranks, values, size);
+    }
+
+    @Override
+    public String get(Material item) {
+        int ordinal = item.ordinal();
+        int word = ordinal >>> 6;
+        long bit = 1L << ordinal;
+        long bits = changed[word];
+        if ((bits & bit) == 0) {
+            return base.get(item);
+        }
+        return translations[ranks[word] + Long.bitCount(bits & (bit - 1))];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the table holding the translations that did not change.
+     *
+     * @return The base table.
+     */
+    public TranslationTable base() {
+        return base;
+    }
+
+    /**
+     * Returns the number of materials whose translation differs from the base table.
+     *
+     * @return The number of added, changed and removed translations.
+     */
+    public int changes() {
+        return translations.length;
+    }
+
+    /**
+     * Returns whether the base table is stored compactly, since most lookups are answered by it.
+     *
+     * @return true if the base table is compact.
+     */
+    @Override
+    public boolean isCompact() {
+        return base.isCompact();
+    }
+
+    /**
+     * Estimates the heap used by the differences, excluding the base table and the changed translations,
+     * which may be shared with other tables.
+     *
+     * @return The estimated size in bytes.
+     */
+    @Override
+    public long estimatedBytes() {
+        return 24L + align(16L + 8L * changed.length) + align(16L + 4L * ranks.length) + align(16L + 4L * translations.length);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
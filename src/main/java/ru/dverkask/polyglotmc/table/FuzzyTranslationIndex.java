@@ -0,0 +1,235 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A trigram index over the translated names of materials, for suggesting items when a player misspells a name.
+ * <p>
+ * Names are normalized as by {@link ReverseTranslationIndex#normalize(String)}, padded with a space on each side
+ * and split into their distinct trigrams, the sequences of three consecutive characters. Each trigram is mapped
+ * to the sorted list of names containing it. A query is split the same way, and the names sharing the most
+ * trigrams with it, relative to the number of trigrams of both, are returned first. Only the posting lists of
+ * the trigrams of the query are read, so a query costs a handful of binary searches and a scan of one counter per
+ * indexed name, instead of an edit distance computation against every translation.
+ * </p>
+ * <p>
+ * The index is immutable and can be queried by any number of threads at once.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+public final class FuzzyTranslationIndex {
+
+    /**
+     * The number of bits of a packed trigram and name pair holding the name.
+     */
+    private static final int NAME_BITS = 16;
+
+    /**
+     * The distinct trigrams of all names, sorted, each packed into the low 48 bits of a long.
+     */
+    private final long[] trigrams;
+
+    /**
+     * The start of the posting list of each trigram in {@link #postings}, followed by the total number of postings.
+     */
+    private final int[] offsets;
+
+    /**
+     * The names containing each trigram, in ascending order.
+     */
+    private final char[] postings;
+
+    /**
+     * The number of distinct trigrams of each name.
+     */
+    private final int[] trigramCounts;
+
+    /**
+     * The material of each name.
+     */
+    private final Material[] materials;
+
+    private FuzzyTranslationIndex(long[] trigrams, int[] offsets, char[] postings, int[] trigramCounts, Material[] materials) {
+        this.trigrams = trigrams;
+        this.offsets = offsets;
+        this.postings = postings;
+        this.trigramCounts = trigramCounts;
+        this.materials = materials;
+    }
+
+    /**
+     * Builds the index of the translations of all materials.
+     *
+     * @param translations A function returning the translated name of a material, or null if it has none.
+     * @return A new {@link FuzzyTranslationIndex}.
+     */
+    public static FuzzyTranslationIndex of(Function<Material, String> translations) {
+        List<Material> materials = new ArrayList<>();
+        List<long[]> names = new ArrayList<>();
+        int pairCount = 0;
+        for (Material material : Material.values()) {
+            String name = translations.apply(material);
+            if (name == null || name.isEmpty()) {
+                continue;
+            }
+            long[] nameTrigrams = trigramsOf(ReverseTranslationIndex.normalize(name));
+            if (nameTrigrams.length > 0) {
+                materials.add(material);
+                names.add(nameTrigrams);
+                pairCount += nameTrigrams.length;
+            }
+        }
+        if (materials.size() > 1 << NAME_BITS) {
+            throw new IllegalStateException("Too many names to index: " + materials.size());
+        }
+
+        long[] pairs = new long[pairCount];
+        int[] trigramCounts = new int[names.size()];
+        int p = 0;
+        for (int name = 0; name < names.size(); name++) {
+            long[] nameTrigrams = names.get(name);
+            trigramCounts[name] = nameTrigrams.length;
+            for (long trigram : nameTrigrams) {
+                pairs[p++] = (trigram << NAME_BITS | name) ^ Long.MIN_VALUE;
+            }
+        }
+        // The sign bit is flipped so that pairs whose first character is above U+7FFF still sort after the others.
+        Arrays.sort(pairs);
+
+        long[] trigrams = new long[pairs.length];
+        int[] offsets = new int[pairs.length + 1];
+        char[] postings = new char[pairs.length];
+        int distinct = 0;
+        for (int i = 0; i < pairs.length; i++) {
+            long pair = pairs[i] ^ Long.MIN_VALUE;
+            long trigram = pair >>> NAME_BITS;
+            if (distinct == 0 || trigrams[distinct - 1] != trigram) {
+                trigrams[distinct] = trigram;
+                offsets[distinct] = i;
+                distinct++;
+            }
+            postings[i] = (char) pair;
+        }
+        offsets[distinct] = pairs.length;
+        return new FuzzyTranslationIndex(Arrays.copyOf(trigrams, distinct), Arrays.copyOf(offsets, distinct + 1),
+                postings, trigramCounts, materials.toArray(new Material[0]));
+    }
+
+    /**
+     * Returns the distinct trigrams of a normalized name padded with a space on each side, sorted.
+     *
+     * @param name The normalized name.
+     * @return The packed trigrams of the name.
+     */
+    private static long[] trigramsOf(String name) {
+        if (name.isEmpty()) {
+            return new long[0];
+        }
+        int length = name.length() + 2;
+        long[] trigrams = new long[length - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = (long) charAt(name, i) << 32 | (long) charAt(name, i + 1) << 16 | charAt(name, i + 2);
+        }
+        Arrays.sort(trigrams);
+        int distinct = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (distinct == 0 || trigrams[distinct - 1] != trigrams[i]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return distinct == trigrams.length ? trigrams : Arrays.copyOf(trigrams, distinct);
+    }
+
+    /**
+     * Returns a character of a name as if it were padded with a space on each side.
+     */
+    private static char charAt(String name, int paddedIndex) {
+        int index = paddedIndex - 1;
+        return index < 0 || index >= name.length() ? ' ' : name.charAt(index);
+    }
+
+    /**
+     * Finds the materials whose translated names are the most similar to a query.
+     * <p>
+     * Names are ranked by their Dice coefficient with the query: twice the number of trigrams they share,
+     * divided by the number of trigrams of both. Names sharing no trigram with the query are never returned.
+     * </p>
+     *
+     * @param query The name typed by a player, possibly misspelled.
+     * @param limit The maximum number of materials to return.
+     * @return The most similar materials, best match first, at most {@code limit}.
+     */
+    public List<Material> search(String query, int limit) {
+        long[] queryTrigrams = trigramsOf(ReverseTranslationIndex.normalize(query));
+        if (queryTrigrams.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        int[] shared = new int[materials.length];
+        for (long trigram : queryTrigrams) {
+            int index = Arrays.binarySearch(trigrams, trigram);
+            if (index >= 0) {
+                for (int i = offsets[index]; i < offsets[index + 1]; i++) {
+                    shared[postings[i]]++;
+                }
+            }
+        }
+
+        int[] best = new int[Math.min(limit, materials.length)];
+        double[] bestScores = new double[best.length];
+        int found = 0;
+        for (int name = 0; name < shared.length; name++) {
+            if (shared[name] == 0) {
+                continue;
+            }
+            double score = 2.0 * shared[name] / (queryTrigrams.length + trigramCounts[name]);
+            if (found == best.length && score <= bestScores[found - 1]) {
+                continue;
+            }
+            int position = found < best.length ? found++ : found - 1;
+            while (position > 0 && bestScores[position - 1] < score) {
+                best[position] = best[position - 1];
+                bestScores[position] = bestScores[position - 1];
+                position--;
+            }
+            best[position] = name;
+            bestScores[position] = score;
+        }
+
+        List<Material> result = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            result.add(materials[best[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of indexed names.
+     *
+     * @return The number of indexed materials.
+     */
+    public int size() {
+        return materials.length;
+    }
+
+    /**
+     * Returns an estimate of the heap used by the index, in bytes.
+     *
+     * @return The estimated size in bytes.
+     */
+    public long estimatedBytes() {
+        return 16L * 6
+                + 8L * trigrams.length
+                + 4L * offsets.length
+                + 2L * postings.length
+                + 4L * trigramCounts.length
+                + 4L * materials.length;
+    }
+}
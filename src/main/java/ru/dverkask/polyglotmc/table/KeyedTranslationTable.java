@@ -0,0 +1,357 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A {@link TranslationTable} holding every key of a language file, not only the names of materials.
+ * <p>
+ * Language files also name entities, enchantments, effects, biomes and much more, for example
+ * {@code entity.minecraft.zombie} or {@code enchantment.minecraft.sharpness}. This table keeps all of them,
+ * so that one load of a language file serves every name lookup.
+ * </p>
+ * <p>
+ * The keys are packed one after another in a single byte array, with an offset index, instead of being held
+ * as one {@link String} each. They are found through an immutable open-addressing hash index. Lookups by
+ * raw key, or by a category and a {@link NamespacedKey}, hash and compare the key piece by piece and never
+ * allocate. Material translations are additionally kept in an array indexed by {@link Material#ordinal()}.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+public final class KeyedTranslationTable implements TranslationTable {
+
+    /** A table without any translation. */
+    private static final KeyedTranslationTable EMPTY = builder().build();
+
+    /**
+     * The keys, encoded in ISO-8859-1, one after another.
+     */
+    private final byte[] keys;
+
+    /**
+     * The start offset of each key in {@link #keys}, followed by the length of {@link #keys}.
+     */
+    private final int[] keyOffsets;
+
+    /**
+     * The translation of each key.
+     */
+    private final String[] values;
+
+    /**
+     * The open-addressing hash index: each slot holds the index of a key plus one, or 0 if it is empty.
+     */
+    private final int[] slots;
+
+    /** A mask mapping a hash to a slot of {@link #slots}. */
+    private final int mask;
+
+    /**
+     * The translations of the materials, indexed by {@link Material#ordinal()}.
+     */
+    private final String[] materials;
+
+    /**
+     * The number of translated materials.
+     */
+    private final int materialCount;
+
+    private KeyedTranslationTable(byte[] keys, int[] keyOffsets, String[] values, int[] slots,
+                                  String[] materials, int materialCount) {
+        this.keys = keys;
+        this.keyOffsets = keyOffsets;
+        this.values = values;
+        this.slots = slots;
+        this.mask = slots.length - 1;
+        this.materials = materials;
+        this.materialCount = materialCount;
+    }
+
+    /**
+     * Returns a table without any translation.
+     *
+     * @return An empty {@link KeyedTranslationTable}.
+     */
+    public static KeyedTranslationTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a builder of a table.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieves the translation of a key of the language file, for example {@code entity.minecraft.zombie}.
+     *
+     * @param key The full translation key.
+     * @return The translation, or null if the language file has no such key.
+     */
+    public String get(String key) {
+        int hash = 0;
+        for (int i = 0; i < key.length(); i++) {
+            hash = 31 * hash + key.charAt(i);
+        }
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                return null;
+            }
+            int start = keyOffsets[entry - 1];
+            if (keyOffsets[entry] - start == key.length() && regionMatches(start, key)) {
+                return values[entry - 1];
+            }
+        }
+    }
+
+    /**
+     * Retrieves the translation of a namespaced game object, whose translation key is made of a category,
+     * the namespace and the key, separated by dots. For example, the category {@code "entity"} and the key
+     * {@code minecraft:zombie} name the key {@code entity.minecraft.zombie}.
+     *
+     * @param category The category of the translation key, such as "entity", "enchantment", "effect" or "biome".
+     * @param key The {@link NamespacedKey} of the game object.
+     * @return The translation, or null if the language file has no such key.
+     */
+    public String get(String category, NamespacedKey key) {
+        String namespace = key.getNamespace();
+        String path = key.getKey();
+        int hash = 0;
+        for (int i = 0; i < category.length(); i++) {
+            hash = 31 * hash + category.charAt(i);
+        }
+        hash = 31 * hash + '.';
+        for (int i = 0; i < namespace.length(); i++) {
+            hash = 31 * hash + namespace.charAt(i);
+        }
+        hash = 31 * hash + '.';
+        for (int i = 0; i < path.length(); i++) {
+            hash = 31 * hash + path.charAt(i);
+        }
+        int length = category.length() + namespace.length() + path.length() + 2;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                return null;
+            }
+            int start = keyOffsets[entry - 1];
+            if (keyOffsets[entry] - start == length
+                    && regionMatches(start, category)
+                    && keys[start + category.length()] == '.'
+                    && regionMatches(start + category.length() + 1, namespace)
+                    && keys[start + category.length() + 1 + namespace.length()] == '.'
+                    && regionMatches(start + category.length() + namespace.length() + 2, path)) {
+                return values[entry - 1];
+            }
+        }
+    }
+
+    @Override
+    public String get(Material item) {
+        return materials[item.ordinal()];
+    }
+
+    @Override
+    public int size() {
+        return materialCount;
+    }
+
+    /**
+     * Returns the number of keys in the table.
+     *
+     * @return The number of translation keys.
+     */
+    public int keyCount() {
+        return values.length;
+    }
+
+    /**
+     * Passes every key and its translation to an action, for example to store the table.
+     * Each key is decoded into a new {@link String}, so this is not meant for lookups.
+     *
+     * @param action The action to perform on each key and translation.
+     */
+    public void forEach(BiConsumer<String, String> action) {
+        for (int i = 0; i < values.length; i++) {
+            int start = keyOffsets[i];
+            action.accept(new String(keys, start, keyOffsets[i + 1] - start, StandardCharsets.ISO_8859_1), values[i]);
+        }
+    }
+
+    /**
+     * Passes the translation of every key to an action.
+     *
+     * @param action The action to perform on each translation.
+     */
+    public void forEachValue(Consumer<String> action) {
+        for (String value : values) {
+            action.accept(value);
+        }
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return 32L + align(16L + keys.length) + align(16L + 4L * keyOffsets.length) + align(16L + 4L * values.length)
+                + align(16L + 4L * slots.length) + align(16L + 4L * materials.length);
+    }
+
+    private boolean regionMatches(int start, String part) {
+        for (int i = 0; i < part.length(); i++) {
+            if ((keys[start + i] & 0xFF) != part.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Collects the keys and translations of a language file and builds a {@link KeyedTranslationTable}.
+     * <p>
+     * When a key or a material is added several times, the first translation wins.
+     * </p>
+     */
+    public static final class Builder {
+
+        private byte[] keys = new byte[8192];
+        private int keysLength;
+        private int[] keyOffsets = new int[257];
+        private String[] values = new String[256];
+        private int count;
+        private final String[] materials = new String[Material.values().length];
+        private int materialCount;
+
+        private Builder() {}
+
+        /**
+         * Adds a translation key. Keys must only contain ISO-8859-1 characters, like all keys of the
+         * vanilla language files; other keys are ignored.
+         *
+         * @param key A buffer holding the key.
+         * @param length The length of the key in the buffer.
+         * @param value The translation of the key.
+         * @return This Builder instance.
+         */
+        public Builder add(char[] key, int length, String value) {
+            for (int i = 0; i < length; i++) {
+                if (key[i] > 0xFF) {
+                    return this;
+                }
+            }
+            if (keysLength + length > keys.length) {
+                keys = Arrays.copyOf(keys, Math.max(keys.length * 2, keysLength + length));
+            }
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+                keyOffsets = Arrays.copyOf(keyOffsets, count * 2 + 1);
+            }
+            for (int i = 0; i < length; i++) {
+                keys[keysLength + i] = (byte) key[i];
+            }
+            keyOffsets[count] = keysLength;
+            keysLength += length;
+            values[count++] = value;
+            return this;
+        }
+
+        /**
+         * Adds a translation key.
+         *
+         * @param key The translation key.
+         * @param value The translation of the key.
+         * @return This Builder instance.
+         */
+        public Builder add(String key, String value) {
+            return add(key.toCharArray(), key.length(), value);
+        }
+
+        /**
+         * Sets the translation of a material, unless it already has one.
+         *
+         * @param material The material.
+         * @param value The translated name of the material.
+         * @return This Builder instance.
+         */
+        public Builder material(Material material, String value) {
+            if (materials[material.ordinal()] == null) {
+                materials[material.ordinal()] = value;
+                materialCount++;
+            }
+            return this;
+        }
+
+        /**
+         * Builds the table.
+         *
+         * @return A new immutable {@link KeyedTranslationTable}.
+         */
+        public KeyedTranslationTable build() {
+            int capacity = Integer.highestOneBit(Math.max(2, count) * 2 - 1) << 1;
+            int[] slots = new int[capacity];
+            int[] offsets = Arrays.copyOf(keyOffsets, count + 1);
+            offsets[count] = keysLength;
+            byte[] packed = Arrays.copyOf(keys, keysLength);
+            String[] kept = new String[count];
+            int[] keptOffsets = new int[count + 1];
+            byte[] keptKeys = new byte[keysLength];
+            int keptCount = 0;
+            int keptLength = 0;
+            for (int i = 0; i < count; i++) {
+                int start = offsets[i];
+                int length = offsets[i + 1] - start;
+                int hash = 0;
+                for (int j = 0; j < length; j++) {
+                    hash = 31 * hash + (packed[start + j] & 0xFF);
+                }
+                int slot = spread(hash) & (capacity - 1);
+                boolean duplicate = false;
+                while (slots[slot] != 0) {
+                    int other = slots[slot] - 1;
+                    int otherStart = keptOffsets[other];
+                    if (keptOffsets[other + 1] - otherStart == length
+                            && Arrays.equals(keptKeys, otherStart, otherStart + length, packed, start, start + length)) {
+                        duplicate = true;
+                        break;
+                    }
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                if (duplicate) {
+                    continue;
+                }
+                System.arraycopy(packed, start, keptKeys, keptLength, length);
+                keptOffsets[keptCount] = keptLength;
+                keptLength += length;
+                keptOffsets[keptCount + 1] = keptLength;
+                kept[keptCount++] = values[i];
+                slots[slot] = keptCount;
+            }
+            return new KeyedTranslationTable(
+                    Arrays.copyOf(keptKeys, keptLength),
+                    Arrays.copyOf(keptOffsets, keptCount + 1),
+                    Arrays.copyOf(kept, keptCount),
+                    slots,
+                    materials.clone(),
+                    materialCount
+            );
+        }
+    }
+}
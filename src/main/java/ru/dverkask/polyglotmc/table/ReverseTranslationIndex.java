@@ -0,0 +1,196 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * An index from translated names back to materials, for parsing item names typed by players.
+ * <p>
+ * Names are normalized before being indexed and before being looked up: they are converted to Unicode
+ * normalization form NFKC, case-folded, trimmed, and runs of whitespace are collapsed into a single space.
+ * Thus "  diamond   SWORD" finds the material translated as "Diamond Sword".
+ * </p>
+ * <p>
+ * The normalized names are held in a sorted array, so an exact lookup is a binary search and a prefix query is
+ * a binary search followed by a scan of the matching names, which are contiguous. The index is immutable and
+ * can be queried by any number of threads at once, which suits tab completion while many players are typing.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ReverseTranslationIndex {
+
+    /**
+     * The normalized names, sorted.
+     */
+    private final String[] keys;
+
+    /**
+     * The translated names as they appear in the language file, in the order of {@link #keys}.
+     */
+    private final String[] names;
+
+    /**
+     * The materials, in the order of {@link #keys}. Materials sharing a name are ordered by ordinal.
+     */
+    private final Material[] materials;
+
+    private ReverseTranslationIndex(String[] keys, String[] names, Material[] materials) {
+        this.keys = keys;
+        this.names = names;
+        this.materials = materials;
+    }
+
+    /**
+     * Builds the index of the translations of all materials.
+     *
+     * @param translations A function returning the translated name of a material, or null if it has none.
+     * @return A new {@link ReverseTranslationIndex}.
+     */
+    public static ReverseTranslationIndex of(Function<Material, String> translations) {
+        List<Entry> entries = new ArrayList<>();
+        for (Material material : Material.values()) {
+            String name = translations.apply(material);
+            if (name != null && !name.isEmpty()) {
+                entries.add(new Entry(normalize(name), name, material));
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::key).thenComparing(entry -> entry.material().ordinal()));
+        String[] keys = new String[entries.size()];
+        String[] names = new String[entries.size()];
+        Material[] materials = new Material[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            Entry entry = entries.get(i);
+            keys[i] = entry.key();
+            names[i] = entry.name();
+            materials[i] = entry.material();
+        }
+        return new ReverseTranslationIndex(keys, names, materials);
+    }
+
+    /**
+     * Normalizes a name for lookups: NFKC normalization, case folding, trimming and whitespace collapsing.
+     *
+     * @param name The name to normalize.
+     * @return The normalized name.
+     */
+    public static String normalize(String name) {
+        String folded = Normalizer.normalize(name, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(folded.length());
+        boolean space = false;
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                space = normalized.length() > 0;
+                continue;
+            }
+            if (space) {
+                normalized.append(' ');
+                space = false;
+            }
+            normalized.append(c);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Finds the material with the given translated name.
+     * If several materials share the name, the one declared first in {@link Material} is returned.
+     *
+     * @param name The translated name, in any case.
+     * @return An {@link Optional} containing the material, or an empty Optional if no material has this name.
+     */
+    public Optional<Material> find(String name) {
+        String key = normalize(name);
+        int index = lowerBound(key);
+        return index < keys.length && keys[index].equals(key) ? Optional.of(materials[index]) : Optional.empty();
+    }
+
+    /**
+     * Finds all materials with the given translated name, such as a block and its wall variant.
+     *
+     * @param name The translated name, in any case.
+     * @return The materials with this name, possibly empty.
+     */
+    public List<Material> findAll(String name) {
+        String key = normalize(name);
+        List<Material> found = new ArrayList<>(2);
+        for (int i = lowerBound(key); i < keys.length && keys[i].equals(key); i++) {
+            found.add(materials[i]);
+        }
+        return found;
+    }
+
+    /**
+     * Finds the materials whose translated name starts with a prefix, in alphabetical order of their names.
+     *
+     * @param prefix The typed prefix, in any case.
+     * @param limit The maximum number of materials to return.
+     * @return The matching materials, at most {@code limit}.
+     */
+    public List<Material> findByPrefix(String prefix, int limit) {
+        String key = normalize(prefix);
+        List<Material> found = new ArrayList<>(Math.min(limit, 16));
+        for (int i = lowerBound(key); i < keys.length && found.size() < limit && keys[i].startsWith(key); i++) {
+            found.add(materials[i]);
+        }
+        return found;
+    }
+
+    /**
+     * Completes a typed prefix into the translated names starting with it, for tab completion.
+     * Each name is returned once, even if several materials share it.
+     *
+     * @param prefix The typed prefix, in any case.
+     * @param limit The maximum number of names to return.
+     * @return The matching names as they appear in the language file, in alphabetical order, at most {@code limit}.
+     */
+    public List<String> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        List<String> found = new ArrayList<>(Math.min(limit, 16));
+        for (int i = lowerBound(key); i < keys.length && found.size() < limit && keys[i].startsWith(key); i++) {
+            if (i == 0 || !keys[i].equals(keys[i - 1])) {
+                found.add(names[i]);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of indexed names.
+     *
+     * @return The number of indexed materials.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the index of the first key that is not smaller than the given one.
+     */
+    private int lowerBound(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && keys[index - 1].equals(key)) {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * A material with its translated and normalized names, while the index is being built.
+     */
+    private record Entry(String key, String name, Material material) {}
+}
@@ -0,0 +1,25 @@
+package ru.dverkask.polyglotmc.table;
+
+/**
+ * The layouts in which loaded translation tables can be stored.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see ru.dverkask.polyglotmc.loader.TranslationManager#setStorageMode(StorageMode)
+ */
+public enum StorageMode {
+
+    /**
+     * Translations are stored as {@link String}s in an array indexed by material ordinal,
+     * see {@link ArrayTranslationTable}. Lookups are a single array load. This is the default mode.
+     */
+    ARRAY,
+
+    /**
+     * Translations are stored as one contiguous UTF-8 byte array with an offset index,
+     * see {@link CompactTranslationTable}. Strings are decoded on demand, trading lookup speed for a much
+     * smaller heap footprint. Suited to rarely used languages on memory-constrained servers.
+     */
+    COMPACT
+}
@@ -0,0 +1,66 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+
+import java.util.Map;
+
+/**
+ * An immutable table of translations of Minecraft materials for one language and game version.
+ * <p>
+ * Tables are created by {@link ru.dverkask.polyglotmc.loader.TranslationManager TranslationManager} when
+ * a language file is loaded, in the layout selected by its {@link StorageMode}, and are shared by all
+ * providers of that language and version.
+ * </p>
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ * @see ArrayTranslationTable
+ * @see CompactTranslationTable
+ */
+public interface TranslationTable {
+
+    /**
+     * Retrieves the translation of a material.
+     *
+     * @param item The {@link Material} for which to retrieve the translation.
+     * @return The translated name, or null if the table has no translation for the material.
+     * @throws NullPointerException if the provided item is null.
+     */
+    String get(Material item);
+
+    /**
+     * Returns the number of translations in the table.
+     *
+     * @return The number of translated materials.
+     */
+    int size();
+
+    /**
+     * Estimates the heap used by the structure of the table, excluding translation strings
+     * that are shared with other tables.
+     *
+     * @return The estimated size in bytes.
+     */
+    long estimatedBytes();
+
+    /**
+     * Returns whether the translations are stored encoded and decoded on lookup, as in
+     * {@link StorageMode#COMPACT COMPACT} mode. Copying such a table into an array decodes every translation,
+     * so it should be read directly instead.
+     *
+     * @return true if the table is stored compactly.
+     */
+    default boolean isCompact() {
+        return false;
+    }
+
+    /**
+     * Returns an unmodifiable {@link Map} view of the table.
+     *
+     * @return A {@link Map} where keys are {@link Material} objects and values are their translated names.
+     */
+    default Map<Material, String> asMap() {
+        return new TranslationTableMap(this);
+    }
+}
@@ -0,0 +1,95 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An unmodifiable {@link Map} view of a {@link TranslationTable}.
+ * Lookups are delegated to the table; iteration walks the materials in ordinal order and reads each
+ * translation once, so a table decoding its translations on demand decodes each of them only once per scan.
+ *
+ * @author DverkaSK
+ * @version 1.0
+ * @since 1.0
+ */
+final class TranslationTableMap extends AbstractMap<Material, String> {
+
+    private static final Material[] MATERIALS = Material.values();
+
+    private final TranslationTable table;
+
+    TranslationTableMap(TranslationTable table) {
+        this.table = table;
+    }
+
+    @Override
+    public String get(Object key) {
+        return key instanceof Material material ? table.get(material) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    @Override
+    public Set<Entry<Material, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Material, String>> iterator() {
+                return new Iterator<>() {
+                    private int next = -1;
+                    private String nextTranslation;
+
+                    {
+                        advance();
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < MATERIALS.length;
+                    }
+
+                    @Override
+                    public Entry<Material, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<Material, String> entry = new SimpleImmutableEntry<>(MATERIALS[next], nextTranslation);
+                        advance();
+                        return entry;
+                    }
+
+                    /**
+                     * Moves to the next translated material, keeping its translation.
+                     */
+                    private void advance() {
+                        while (++next < MATERIALS.length) {
+                            nextTranslation = table.get(MATERIALS[next]);
+                            if (nextTranslation != null) {
+                                return;
+                            }
+                        }
+                        nextTranslation = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return table.size();
+            }
+        };
+    }
+}
@@ -1,8 +1,14 @@
 package ru.dverkask.polyglotmc.version;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 /**
  * Represents the supported Minecraft versions in the PolyglotMC library.
@@ -10,6 +16,11 @@ import java.util.stream.Stream;
  * This class contains three nested enums: {@link Release}, {@link Snapshot}, and {@link PreRelease},
  * each representing different types of Minecraft versions. All these enums implement the {@link Version} interface.
  * </p>
+ * <p>
+ * Versions can be looked up by their string representation in constant time with {@link #findByVersion(String)},
+ * and compared in release order with {@link #compare(Version, Version)}: snapshots come before the pre-releases
+ * of the release they lead to, pre-releases before release candidates, and release candidates before the release.
+ * </p>
  *
  * @author DverkaSK
  * @version 1.0
@@ -383,22 +394,286 @@ public class SupportedVersion {
         }
     }
 
+    /**
+     * The releases snapshots lead to, as the year and ISO week of the release ({@code yyww}), in order.
+     * A snapshot belongs to the first release published in its week or later: snapshots published in the week
+     * of a release, such as 13w43a for 1.7.2, precede it, while the snapshots of the next release start the
+     * following week at the earliest.
+     */
+    private static final int[] SNAPSHOT_RELEASE_WEEKS = {
+            1231, 1243, 1251, 1311, 1312, 1327, 1343, 1350, 1436, 1609, 1619, 1623,
+            1646, 1651, 1723, 1829, 1917, 1950, 2026, 2033, 2123, 2148, 2209, 2223, 2249, 2311, 2323, 2339, 2348,
+            2417, 2425
+    };
+
+    /**
+     * The versions of the releases in {@link #SNAPSHOT_RELEASE_WEEKS}.
+     */
+    private static final String[] SNAPSHOT_RELEASES = {
+            "1.3.1", "1.4.2", "1.4.6", "1.5", "1.5.1", "1.6.1", "1.7.2", "1.7.4", "1.8", "1.9", "1.9.3", "1.10",
+            "1.11", "1.11.1", "1.12", "1.13", "1.14", "1.15", "1.16", "1.16.2", "1.17", "1.18", "1.18.2", "1.19",
+            "1.19.3", "1.19.4", "1.20", "1.20.2", "1.20.3", "1.20.5", "1.21"
+    };
+
+    /** Release order phase of snapshots. */
+    private static final int PHASE_SNAPSHOT = 0;
+
+    /** Release order phase of pre-releases. */
+    private static final int PHASE_PRE_RELEASE = 1;
+
+    /** Release order phase of release candidates. */
+    private static final int PHASE_RELEASE_CANDIDATE = 2;
+
+    /** Release order phase of releases. */
+    private static final int PHASE_RELEASE = 3;
+
+    /** The release number of snapshots leading to a release newer than all known ones. */
+    private static final long UNRELEASED = 99_99_99;
+
+    /** The factor separating the release number from the phase and the number within the phase in order keys. */
+    private static final long ORDER_KEY_RELEASE_FACTOR = 4L * 10_000_000L;
+
+    /**
+     * All versions, indexed by their lowercase string representation.
+     */
+    private static final Map<String, Version> BY_VERSION = new HashMap<>();
+
+    /**
+     * The release order key of each release, snapshot and pre-release, indexed by ordinal.
+     */
+    private static final long[] RELEASE_KEYS;
+    private static final long[] SNAPSHOT_KEYS;
+    private static final long[] PRE_RELEASE_KEYS;
+
+    /**
+     * All releases, from the oldest to the newest.
+     */
+    private static final Release[] RELEASES_IN_ORDER;
+
+    /**
+     * The release numbers of {@link #RELEASES_IN_ORDER}, for binary searches.
+     */
+    private static final long[] RELEASE_NUMBERS;
+
+    /**
+     * All versions, from the oldest to the newest.
+     */
+    private static final List<Version> VERSIONS_IN_ORDER;
+
+    static {
+        List<Version> all = new ArrayList<>();
+        Collections.addAll(all, Release.values());
+        Collections.addAll(all, Snapshot.values());
+        Collections.addAll(all, PreRelease.values());
+        for (Version version : all) {
+            BY_VERSION.putIfAbsent(version.version().toLowerCase(Locale.ROOT), version);
+        }
+        RELEASE_KEYS = keys(Release.values());
+        SNAPSHOT_KEYS = keys(Snapshot.values());
+        PRE_RELEASE_KEYS = keys(PreRelease.values());
+        RELEASES_IN_ORDER = Release.values();
+        Arrays.sort(RELEASES_IN_ORDER, Comparator.comparingLong(release -> RELEASE_KEYS[release.ordinal()]));
+        RELEASE_NUMBERS = new long[RELEASES_IN_ORDER.length];
+        for (int i = 0; i < RELEASE_NUMBERS.length; i++) {
+            RELEASE_NUMBERS[i] = RELEASE_KEYS[RELEASES_IN_ORDER[i].ordinal()] / ORDER_KEY_RELEASE_FACTOR;
+        }
+        all.sort(SupportedVersion::compare);
+        VERSIONS_IN_ORDER = Collections.unmodifiableList(all);
+    }
+
     /**
      * Finds a Version by its string representation.
+     * <p>
+     * The string is matched case-insensitively with a hash lookup.
+     * </p>
      *
      * @param version the string representation of the version to search for
      * @return an Optional containing the Version if found, or an empty Optional if not found
      */
     public static Optional<Version> findByVersion(String version) {
-        return Stream.of(
-                        Arrays.stream(Release.values()),
-                        Arrays.stream(Snapshot.values()),
-                        Arrays.stream(PreRelease.values())
-                )
-                .flatMap(s -> s)
-                .filter(v -> v.version().equalsIgnoreCase(version))
-                .map(v -> (Version) v)
-                .findFirst();
+        if (version == null) {
+            return Optional.empty();
+        }
+        Version found = BY_VERSION.get(version);
+        return Optional.ofNullable(found != null ? found : BY_VERSION.get(version.toLowerCase(Locale.ROOT)));
+    }
 
+    /**
+     * Compares two versions in release order.
+     * <p>
+     * Versions are ordered by the release they belong to. Within a release, snapshots come first, by date,
+     * then pre-releases, then release candidates, and the release itself last.
+     * </p>
+     *
+     * @param first the first version to compare
+     * @param second the second version to compare
+     * @return a negative number if {@code first} is older than {@code second}, zero if they are equal in
+     *         release order, a positive number if {@code first} is newer
+     * @throws IllegalArgumentException if a version that is not one of the supported constants cannot be parsed
+     */
+    public static int compare(Version first, Version second) {
+        return Long.compare(orderKey(first), orderKey(second));
+    }
+
+    /**
+     * Returns all supported versions, from the oldest to the newest.
+     *
+     * @return an unmodifiable list of all versions in release order
+     */
+    public static List<Version> inReleaseOrder() {
+        return VERSIONS_IN_ORDER;
+    }
+
+    /**
+     * Returns the release a version belongs to: the release itself, or the release a snapshot or
+     * pre-release leads to.
+     *
+     * @param version the version
+     * @return an Optional containing the release, or an empty Optional if that release is not supported yet
+     */
+    public static Optional<Release> targetRelease(Version version) {
+        if (version instanceof Release release) {
+            return Optional.of(release);
+        }
+        long releaseNumber = orderKey(version) / ORDER_KEY_RELEASE_FACTOR;
+        int index = Arrays.binarySearch(RELEASE_NUMBERS, releaseNumber);
+        return index >= 0 ? Optional.of(RELEASES_IN_ORDER[index]) : Optional.empty();
+    }
+
+    /**
+     * Returns the release closest to a version: the release it belongs to if it is supported,
+     * otherwise the newest release that is older than the version.
+     *
+     * @param version the version
+     * @return an Optional containing the nearest release, or an empty Optional if the version is older than all releases
+     */
+    public static Optional<Release> nearestRelease(Version version) {
+        Optional<Release> target = targetRelease(version);
+        if (target.isPresent()) {
+            return target;
+        }
+        long key = orderKey(version);
+        int low = 0;
+        int high = RELEASES_IN_ORDER.length - 1;
+        Release nearest = null;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Release release = RELEASES_IN_ORDER[middle];
+            if (RELEASE_KEYS[release.ordinal()] < key) {
+                nearest = release;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return Optional.ofNullable(nearest);
+    }
+
+    /**
+     * Returns the release order key of a version.
+     *
+     * @param version the version
+     * @return the order key
+     */
+    private static long orderKey(Version version) {
+        if (version instanceof Release release) {
+            return RELEASE_KEYS[release.ordinal()];
+        }
+        if (version instanceof Snapshot snapshot) {
+            return SNAPSHOT_KEYS[snapshot.ordinal()];
+        }
+        if (version instanceof PreRelease preRelease) {
+            return PRE_RELEASE_KEYS[preRelease.ordinal()];
+        }
+        return parseOrderKey(version.version());
+    }
+
+    private static long[] keys(Version[] versions) {
+        long[] keys = new long[versions.length];
+        for (int i = 0; i < versions.length; i++) {
+            keys[i] = parseOrderKey(versions[i].version());
+        }
+        return keys;
+    }
+
+    /**
+     * Computes the release order key of a version string. The key combines the release number,
+     * the phase within the release and the number of the version within its phase.
+     *
+     * @param version the string representation of the version
+     * @return the order key
+     * @throws IllegalArgumentException if the version cannot be parsed
+     */
+    private static long parseOrderKey(String version) {
+        String lower = version.toLowerCase(Locale.ROOT);
+        if (lower.length() == 6 && lower.charAt(2) == 'w') {
+            int week = parseNumber(lower, 0, 2) * 100 + parseNumber(lower, 3, 5);
+            int index = 0;
+            while (index < SNAPSHOT_RELEASE_WEEKS.length && SNAPSHOT_RELEASE_WEEKS[index] < week) {
+                index++;
+            }
+            long release = index < SNAPSHOT_RELEASES.length ? parseRelease(SNAPSHOT_RELEASES[index]) : UNRELEASED;
+            return orderKey(release, PHASE_SNAPSHOT, week * 26L + (lower.charAt(5) - 'a'));
+        }
+        int dash = lower.indexOf('-');
+        if (dash < 0) {
+            return orderKey(parseRelease(lower), PHASE_RELEASE, 0);
+        }
+        long release = parseRelease(lower.substring(0, dash));
+        if (lower.startsWith("pre", dash + 1)) {
+            return orderKey(release, PHASE_PRE_RELEASE, parseNumber(lower, dash + 4, lower.length()));
+        }
+        if (lower.startsWith("rc", dash + 1)) {
+            return orderKey(release, PHASE_RELEASE_CANDIDATE, parseNumber(lower, dash + 3, lower.length()));
+        }
+        throw new IllegalArgumentException("Unrecognized version: " + version);
+    }
+
+    private static long orderKey(long release, int phase, long number) {
+        return release * ORDER_KEY_RELEASE_FACTOR + phase * 10_000_000L + number;
+    }
+
+    /**
+     * Parses a release version such as "1.20.4" into a number preserving release order.
+     *
+     * @param release the release version, with at most three components below 100
+     * @return the release number
+     * @throws IllegalArgumentException if the release cannot be parsed
+     */
+    private static long parseRelease(String release) {
+        long number = 0;
+        int components = 0;
+        int start = 0;
+        while (start <= release.length()) {
+            int end = release.indexOf('.', start);
+            if (end < 0) {
+                end = release.length();
+            }
+            int component = parseNumber(release, start, end);
+            if (component >= 100 || ++components > 3) {
+                throw new IllegalArgumentException("Unrecognized version: " + release);
+            }
+            number = number * 100 + component;
+            start = end + 1;
+        }
+        for (; components < 3; components++) {
+            number *= 100;
+        }
+        return number;
+    }
+
+    private static int parseNumber(String value, int start, int end) {
+        if (start >= end) {
+            throw new IllegalArgumentException("Unrecognized version: " + value);
+        }
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Unrecognized version: " + value);
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
     }
 }
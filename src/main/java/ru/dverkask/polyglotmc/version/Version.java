@@ -1,5 +1,7 @@
 package ru.dverkask.polyglotmc.version;
 
+import java.util.Comparator;
+
 /**
  * Represents a Minecraft version in the PolyglotMC library.
  * <p>
@@ -9,6 +11,11 @@ package ru.dverkask.polyglotmc.version;
  * <p>
  * Implementations of this interface should provide a string representation of the Minecraft version.
  * </p>
+ * <p>
+ * Versions are totally ordered in release order by {@link #RELEASE_ORDER}. The supported versions are
+ * enum constants, which are already {@link Comparable} by declaration order, so the release order is
+ * provided as a {@link Comparator} instead.
+ * </p>
  *
  * @author DverkaSK
  * @version 1.0
@@ -26,4 +33,29 @@ public interface Version {
      * @return a {@link String} representing the Minecraft version
      */
     String version();
+
+    /**
+     * Orders versions from the oldest to the newest, see {@link SupportedVersion#compare(Version, Version)}.
+     */
+    Comparator<Version> RELEASE_ORDER = SupportedVersion::compare;
+
+    /**
+     * Returns whether this version was released after another one.
+     *
+     * @param other the version to compare with
+     * @return true if this version is newer than {@code other}
+     */
+    default boolean isNewerThan(Version other) {
+        return SupportedVersion.compare(this, other) > 0;
+    }
+
+    /**
+     * Returns whether this version was released before another one.
+     *
+     * @param other the version to compare with
+     * @return true if this version is older than {@code other}
+     */
+    default boolean isOlderThan(Version other) {
+        return SupportedVersion.compare(this, other) < 0;
+    }
 }
@@ -0,0 +1,91 @@
+package ru.dverkask.polyglotmc.api;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.loader.TranslationManager;
+import ru.dverkask.polyglotmc.loader.TranslationManagerSettings;
+import ru.dverkask.polyglotmc.provider.ArrayTranslationProvider;
+import ru.dverkask.polyglotmc.version.SupportedVersion;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PolyglotBuilderTest {
+    private final TranslationManager manager = TranslationManager.getInstance();
+    private final List<Polyglot> built = new ArrayList<>();
+
+    @AfterEach
+    void reset() {
+        built.forEach(Polyglot::close);
+        TranslationManagerSettings.restoreDefaults();
+    }
+
+    @Test
+    void unsetVersionOptionsKeepTheManagerSettings() {
+        build(builder().withVersionFallback(false).withFallbackVersion(SupportedVersion.Release.V1_20_4));
+        build(builder());
+
+        assertFalse(manager.isVersionFallback());
+        assertEquals(SupportedVersion.Release.V1_20_4, manager.getFallbackVersion());
+    }
+
+    @Test
+    void fallbackVersionCanBeRemoved() {
+        build(builder().withFallbackVersion(SupportedVersion.Release.V1_20_4));
+        build(builder().withoutFallbackVersion());
+
+        assertNull(manager.getFallbackVersion());
+    }
+
+    @Test
+    void fallbackVersionMustBeAReleaseAndNotNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> builder().withFallbackVersion(SupportedVersion.Snapshot.SNAPSHOT_24W21A));
+        assertThrows(IllegalArgumentException.class, () -> builder().withFallbackVersion(null));
+    }
+
+    @Test
+    void conflictingEvictionOptionsAreRejected() {
+        build(builder().withMemoryBudget(1 << 20).withIdleTimeout(Duration.ofMinutes(5)));
+
+        assertThrows(IllegalStateException.class, () -> builder().withMemoryBudget(2 << 20).build());
+        assertThrows(IllegalStateException.class, () -> builder().withIdleTimeout(Duration.ofMinutes(1)).build());
+        build(builder().withMemoryBudget(1 << 20).withIdleTimeout(Duration.ofMinutes(5)));
+        build(builder());
+
+        assertEquals(1 << 20, manager.getMemoryBudget());
+        assertEquals(Duration.ofMinutes(5), manager.getIdleTimeout());
+    }
+
+    @Test
+    void fuzzySearchCannotBeDisabledForOtherInstances() {
+        build(builder().withFuzzySearch(false));
+        assertFalse(manager.isFuzzyIndexing());
+
+        build(builder().withFuzzySearch(true));
+        assertThrows(IllegalStateException.class, () -> builder().withFuzzySearch(false).build());
+        build(builder());
+
+        assertTrue(manager.isFuzzyIndexing());
+    }
+
+    private static Polyglot.Builder builder() {
+        return new Polyglot.Builder()
+                .withTranslationProvider(SupportedLanguage.EN_US,
+                        new ArrayTranslationProvider(SupportedLanguage.EN_US, Map.of(Material.STONE, "Stone")));
+    }
+
+    private void build(Polyglot.Builder builder) {
+        built.add(builder.build());
+    }
+}
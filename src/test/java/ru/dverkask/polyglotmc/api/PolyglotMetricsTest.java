@@ -0,0 +1,64 @@
+package ru.dverkask.polyglotmc.api;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.provider.ArrayTranslationProvider;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PolyglotMetricsTest {
+    private final Polyglot polyglot = new Polyglot.Builder()
+            .withTranslationProvider(SupportedLanguage.EN_US,
+                    new ArrayTranslationProvider(SupportedLanguage.EN_US, Map.of(Material.STONE, "Stone")))
+            .withTranslationProvider(SupportedLanguage.RU_RU,
+                    new ArrayTranslationProvider(SupportedLanguage.RU_RU, Map.of(Material.STONE, "Камень")))
+            .build();
+
+    @AfterEach
+    void close() {
+        polyglot.close();
+    }
+
+    @Test
+    void eachTranslationIsCountedOnce() {
+        polyglot.translate(Material.STONE, SupportedLanguage.RU_RU);
+        polyglot.translate(Material.DIRT, SupportedLanguage.RU_RU);
+        polyglot.translateName(Material.STONE, SupportedLanguage.RU_RU);
+        polyglot.translateComponent(Material.STONE, SupportedLanguage.RU_RU);
+        polyglot.translateAll(new Material[] {Material.STONE, Material.DIRT}, SupportedLanguage.RU_RU);
+
+        LanguageMetrics metrics = metrics(SupportedLanguage.RU_RU);
+        assertTrue(metrics.loaded());
+        assertEquals(4, metrics.hits());
+        assertEquals(2, metrics.misses());
+        assertEquals(0, metrics.fallbacks());
+        assertEquals(6, metrics.requests());
+    }
+
+    @Test
+    void fallbacksAreNotCountedAsHitsOrMisses() {
+        assertEquals("Stone", polyglot.translate(Material.STONE, SupportedLanguage.DE_DE).translatedName());
+        polyglot.translateName(Material.DIRT, SupportedLanguage.DE_DE);
+        polyglot.translateAll(new Material[] {Material.STONE, Material.DIRT}, SupportedLanguage.DE_DE);
+
+        LanguageMetrics metrics = metrics(SupportedLanguage.DE_DE);
+        assertFalse(metrics.loaded());
+        assertEquals(0, metrics.hits());
+        assertEquals(0, metrics.misses());
+        assertEquals(4, metrics.fallbacks());
+        assertEquals(4, metrics.requests());
+    }
+
+    private LanguageMetrics metrics(SupportedLanguage language) {
+        return polyglot.getMetrics().languages().stream()
+                .filter(metrics -> metrics.language() == language)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,65 @@
+package ru.dverkask.polyglotmc.api;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.provider.ArrayTranslationProvider;
+
+import java.lang.reflect.Proxy;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PolyglotPlayerLanguageTest {
+    private final Polyglot polyglot = new Polyglot.Builder()
+            .withTranslationProvider(SupportedLanguage.EN_US,
+                    new ArrayTranslationProvider(SupportedLanguage.EN_US, Map.of(Material.STONE, "Stone")))
+            .build();
+    private final AtomicReference<Locale> locale = new AtomicReference<>(new Locale("ru", "RU"));
+    private final Player player = player(UUID.randomUUID(), locale);
+
+    @AfterEach
+    void close() {
+        polyglot.close();
+    }
+
+    @Test
+    void uncachedPlayersAreResolvedOnEachCall() {
+        assertEquals(SupportedLanguage.RU_RU, polyglot.getLanguage(player));
+
+        locale.set(new Locale("de", "DE"));
+        assertEquals(SupportedLanguage.DE_DE, polyglot.getLanguage(player));
+    }
+
+    @Test
+    void languagesCachedByTheListenerAreForgottenOnQuit() {
+        polyglot.updateLanguage(player, locale.get());
+        locale.set(new Locale("de", "DE"));
+        assertEquals(SupportedLanguage.RU_RU, polyglot.getLanguage(player));
+
+        polyglot.forgetLanguage(player);
+        assertEquals(SupportedLanguage.DE_DE, polyglot.getLanguage(player));
+    }
+
+    @Test
+    void unsupportedLocalesUseTheDefaultLanguage() {
+        locale.set(new Locale("xx", "YY"));
+        assertEquals(SupportedLanguage.EN_US, polyglot.getLanguage(player));
+    }
+
+    private static Player player(UUID id, AtomicReference<Locale> locale) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] {Player.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getUniqueId" -> id;
+                    case "locale" -> locale.get();
+                    case "hashCode" -> id.hashCode();
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,86 @@
+package ru.dverkask.polyglotmc.loader;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.table.KeyedTranslationTable;
+import ru.dverkask.polyglotmc.version.SupportedVersion;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reads the bundles generated by the {@code generateTestTranslationBundles} task from {@code src/test/translations}.
+ */
+class ClasspathTranslationBundlesTest {
+    private final ClasspathTranslationBundles bundles =
+            new ClasspathTranslationBundles(ClasspathTranslationBundlesTest.class.getClassLoader(),
+                    () -> Logger.getLogger("PolyglotMC"));
+
+    @Test
+    void generatedBundleRoundTripsTheLanguageFile() {
+        Map<Material, String> translations = read(SupportedLanguage.EN_US);
+
+        assertEquals(8, translations.size());
+        assertEquals("Stone", translations.get(Material.STONE));
+        assertEquals("Oak Log", translations.get(Material.OAK_LOG));
+        assertEquals("Diamond Sword", translations.get(Material.DIAMOND_SWORD));
+        assertEquals("Potion", translations.get(Material.POTION));
+    }
+
+    @Test
+    void generatedBundleKeepsNonAsciiTranslations() {
+        Map<Material, String> translations = read(SupportedLanguage.RU_RU);
+
+        assertEquals("Камень", translations.get(Material.STONE));
+        assertEquals("Дубовое бревно", translations.get(Material.OAK_LOG));
+    }
+
+    @Test
+    void generatedKeyedBundleHoldsEveryKey() {
+        Optional<KeyedTranslationTable> table = bundles.readKeyed(
+                new TranslationKey(SupportedLanguage.RU_RU, SupportedVersion.Release.V1_20_4), UnaryOperator.identity());
+
+        assertTrue(table.isPresent());
+        assertEquals(11, table.get().keyCount());
+        assertEquals("Зомби", table.get().get("entity.minecraft.zombie"));
+        assertEquals("Бутылочка воды", table.get().get("item.minecraft.potion.effect.water"));
+        assertEquals("Зелье", table.get().get(Material.POTION));
+    }
+
+    @Test
+    void languagesWithoutBundleAreNotFound() {
+        assertFalse(bundles.read(new TranslationKey(SupportedLanguage.DE_DE, SupportedVersion.Release.V1_20_4)).isPresent());
+    }
+
+    @Test
+    void unreadableBundlesAreSkipped(@TempDir Path resources) throws IOException {
+        Path bundle = Files.createDirectories(resources.resolve(ClasspathTranslationBundles.BUNDLE_DIRECTORY + "1.20.4"))
+                .resolve("de_de" + ClasspathTranslationBundles.EXTENSION);
+        Files.write(bundle, new byte[] {1, 2, 3});
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {resources.toUri().toURL()}, null)) {
+            ClasspathTranslationBundles corrupt = new ClasspathTranslationBundles(classLoader, () -> Logger.getLogger("PolyglotMC"));
+
+            assertFalse(corrupt.read(new TranslationKey(SupportedLanguage.DE_DE, SupportedVersion.Release.V1_20_4)).isPresent());
+        }
+    }
+
+    private Map<Material, String> read(SupportedLanguage language) {
+        Optional<Map<Material, String>> translations =
+                bundles.read(new TranslationKey(language, SupportedVersion.Release.V1_20_4));
+        assertTrue(translations.isPresent(), "No bundle for " + language.getCode());
+        return translations.get();
+    }
+}
@@ -0,0 +1,41 @@
+package ru.dverkask.polyglotmc.loader;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * A logger keeping the messages it receives, for tests checking what is logged.
+ */
+final class RecordingLogger extends Handler {
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+    private final Logger logger = Logger.getAnonymousLogger();
+
+    RecordingLogger() {
+        logger.setUseParentHandlers(false);
+        logger.addHandler(this);
+    }
+
+    Logger logger() {
+        return logger;
+    }
+
+    List<String> messages() {
+        return messages;
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        messages.add(record.getMessage());
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+}
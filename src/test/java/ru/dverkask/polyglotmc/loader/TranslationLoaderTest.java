@@ -0,0 +1,97 @@
+package ru.dverkask.polyglotmc.loader;
+
+import com.sun.net.httpserver.HttpServer;
+import org.bukkit.Material;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.version.SupportedVersion;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranslationLoaderTest {
+    private HttpServer server;
+    private volatile int status = 200;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "{\"block.minecraft.stone\":\"Stone\",\"item.minecraft.diamond\":\"Diamond\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+            if (status == 200) {
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } else {
+                exchange.sendResponseHeaders(status, -1);
+            }
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void loadsTheLanguageFileOfTheVersion() throws Exception {
+        Map<Material, String> translations = loader().fetchTranslations();
+        assertEquals("Stone", translations.get(Material.STONE));
+        assertEquals("Diamond", translations.get(Material.DIAMOND));
+    }
+
+    @Test
+    void missingLanguageFileFailsWithFileNotFound() {
+        status = 404;
+        assertThrows(FileNotFoundException.class, () -> loader().fetchTranslations());
+    }
+
+    @Test
+    void asyncLoadCompletesExceptionallyOnServerError() {
+        status = 500;
+        CompletionException error = assertThrows(CompletionException.class,
+                () -> loader().loadTranslationsAsync(ForkJoinPool.commonPool()).join());
+        assertTrue(error.getCause() instanceof UncheckedIOException);
+        assertTrue(error.getCause().getMessage().contains("500"));
+    }
+
+    @Test
+    void legacyLoadsLogFailuresToTheManagerLogger() {
+        status = 500;
+        TranslationManager manager = TranslationManager.getInstance();
+        RecordingLogger log = new RecordingLogger();
+        manager.setLogger(log.logger());
+        try {
+            assertTrue(loader().loadTranslations().isEmpty());
+            assertEquals(0, loader().loadKeyedTable(UnaryOperator.identity()).keyCount());
+        } finally {
+            TranslationManagerSettings.restoreDefaults();
+        }
+        assertEquals(2, log.messages().size());
+        assertTrue(log.messages().get(0).contains("/1.20.4/en_us.json"), log.messages().get(0));
+    }
+
+    private TranslationLoader loader() {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/%s/%s.json";
+        return new TranslationLoader(SupportedLanguage.EN_US, SupportedVersion.Release.V1_20_4,
+                TranslationLoader.defaultHttpClient(), baseUrl);
+    }
+}
@@ -0,0 +1,31 @@
+package ru.dverkask.polyglotmc.loader;
+
+import ru.dverkask.polyglotmc.table.StorageMode;
+
+import java.util.logging.Logger;
+
+/**
+ * Restores the settings of the {@link TranslationManager} singleton, which tests share and mutate.
+ */
+public final class TranslationManagerSettings {
+
+    private TranslationManagerSettings() {
+    }
+
+    /**
+     * Restores every setting of the manager to its default value.
+     */
+    public static void restoreDefaults() {
+        TranslationManager manager = TranslationManager.getInstance();
+        manager.setHttpClient(TranslationLoader.defaultHttpClient());
+        manager.setBaseUrl(TranslationLoader.DEFAULT_BASE_URL);
+        manager.setStorageMode(StorageMode.ARRAY);
+        manager.setLogger(Logger.getLogger("PolyglotMC"));
+        manager.setCacheDirectory(null);
+        manager.setVersionFallback(true);
+        manager.setFallbackVersion(null);
+        manager.setFuzzyIndexing(false);
+        manager.setMemoryBudget(Long.MAX_VALUE);
+        manager.setIdleTimeout(null);
+    }
+}
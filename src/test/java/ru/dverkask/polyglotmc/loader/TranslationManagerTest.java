@@ -0,0 +1,292 @@
+package ru.dverkask.polyglotmc.loader;
+
+import com.sun.net.httpserver.HttpServer;
+import org.bukkit.Material;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.table.KeyedTranslationTable;
+import ru.dverkask.polyglotmc.table.TranslationTable;
+import ru.dverkask.polyglotmc.version.SupportedVersion;
+import ru.dverkask.polyglotmc.version.Version;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranslationManagerTest {
+    private static final List<SupportedLanguage> LANGUAGES = List.of(SupportedLanguage.EN_US, SupportedLanguage.DE_DE,
+            SupportedLanguage.RU_RU, SupportedLanguage.ES_ES, SupportedLanguage.IT_IT, SupportedLanguage.PL_PL);
+
+    private final TranslationManager manager = TranslationManager.getInstance();
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Version version = () -> "test-" + System.identityHashCode(this);
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    private HttpServer server;
+    private volatile int status = 200;
+    private volatile String body = "{\"block.minecraft.stone\":\"Stone\",\"item.minecraft.diamond\":\"Diamond\"}";
+    private volatile CountDownLatch overlap;
+    private final List<TranslationKey> evicted = new CopyOnWriteArrayList<>();
+    private final TranslationCacheListener evictionRecorder = key -> {
+        if (key.version() == version) {
+            evicted.add(key);
+        }
+    };
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            requests.computeIfAbsent(exchange.getRequestURI().getPath(), path -> new AtomicInteger()).incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                CountDownLatch latch = overlap;
+                if (latch != null) {
+                    latch.countDown();
+                    latch.await(5, TimeUnit.SECONDS);
+                }
+                TimeUnit.MILLISECONDS.sleep(50);
+                if (status == 200) {
+                    byte[] content = body.getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(200, content.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(content);
+                    }
+                } else {
+                    exchange.sendResponseHeaders(status, -1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+        manager.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/%s/%s.json");
+        manager.setVersionFallback(false);
+    }
+
+    @AfterEach
+    void reset() {
+        manager.removeCacheListener(evictionRecorder);
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        TranslationManagerSettings.restoreDefaults();
+    }
+
+    @Test
+    void prefetchRequestsEachLanguageOnce() {
+        manager.prefetch(LANGUAGES, version).join();
+        manager.prefetch(LANGUAGES, version).join();
+
+        assertEquals(LANGUAGES.size(), requests.size());
+        for (SupportedLanguage language : LANGUAGES) {
+            AtomicInteger count = requests.get("/" + version.version() + "/" + language.getCode() + ".json");
+            assertEquals(1, count == null ? 0 : count.get(), language + " was not requested once");
+            assertEquals("Stone", manager.getTable(language, version).get(Material.STONE));
+        }
+    }
+
+    @Test
+    void prefetchStaysWithinMaxConcurrency() {
+        manager.prefetch(LANGUAGES, version, 2).join();
+
+        assertTrue(maxInFlight.get() <= 2, maxInFlight.get() + " requests were in flight at the same time");
+        assertEquals(LANGUAGES.size(), requests.size());
+    }
+
+    @Test
+    void prefetchRunsRequestsInParallel() throws InterruptedException {
+        CountDownLatch bothInFlight = new CountDownLatch(2);
+        overlap = bothInFlight;
+
+        manager.prefetch(LANGUAGES, version, 2).join();
+
+        assertTrue(bothInFlight.await(0, TimeUnit.SECONDS), "No two requests were in flight at the same time");
+    }
+
+    @Test
+    void failedLoadIsNotCachedAsAnEmptyTable() {
+        status = 500;
+        assertThrows(CompletionException.class, () -> manager.getTable(SupportedLanguage.EN_US, version));
+        manager.prefetch(List.of(SupportedLanguage.EN_US), version).join();
+
+        status = 200;
+        TranslationTable table = manager.getTable(SupportedLanguage.EN_US, version);
+        assertEquals(2, table.size());
+        assertEquals(3, requests.get("/" + version.version() + "/en_us.json").get());
+    }
+
+    @Test
+    void failedKeyedLoadIsNotCached() {
+        status = 500;
+        assertThrows(CompletionException.class, () -> manager.getKeyedTable(SupportedLanguage.EN_US, version));
+
+        status = 200;
+        KeyedTranslationTable table = manager.getKeyedTable(SupportedLanguage.EN_US, version);
+        assertEquals(2, table.keyCount());
+        assertEquals(2, requests.get("/" + version.version() + "/en_us.json").get());
+    }
+
+    @Test
+    void keyedTablesAreCachedOnDiskAndWeighed(@TempDir Path cacheDirectory) {
+        manager.setCacheDirectory(cacheDirectory);
+        long bytes = manager.getEvictionStatistics().cachedBytes();
+
+        KeyedTranslationTable table = manager.getKeyedTable(SupportedLanguage.EN_US, version);
+
+        assertTrue(Files.isRegularFile(cacheDirectory.resolve(version.version()).resolve("en_us.keys.bin")));
+        assertTrue(manager.getEvictionStatistics().cachedBytes() - bytes >= table.estimatedBytes());
+    }
+
+    @Test
+    void unreadableCacheFileIsLoggedAndLoadedAgain(@TempDir Path cacheDirectory) throws IOException {
+        Path file = Files.createDirectories(cacheDirectory.resolve(version.version())).resolve("en_us.bin");
+        Files.write(file, new byte[] {1, 2, 3});
+        RecordingLogger log = new RecordingLogger();
+        manager.setLogger(log.logger());
+        manager.setCacheDirectory(cacheDirectory);
+
+        assertEquals(2, manager.getTable(SupportedLanguage.EN_US, version).size());
+        assertEquals(1, log.messages().size());
+        assertTrue(log.messages().get(0).contains(file.toString()), log.messages().get(0));
+    }
+
+    @Test
+    void evictUnloadsAPinnedTable() {
+        manager.pin(SupportedLanguage.EN_US, version);
+        manager.getTable(SupportedLanguage.EN_US, version);
+
+        assertTrue(manager.evict(SupportedLanguage.EN_US, version));
+        assertFalse(manager.evict(SupportedLanguage.EN_US, version));
+        manager.getTable(SupportedLanguage.EN_US, version);
+        assertEquals(2, requests.get("/" + version.version() + "/en_us.json").get());
+        manager.unpin(SupportedLanguage.EN_US, version);
+    }
+
+    @Test
+    void idleTimeoutEvictsUnusedTablesButNotPinnedOnes() throws InterruptedException {
+        manager.addCacheListener(evictionRecorder);
+        manager.pin(SupportedLanguage.EN_US, version);
+        manager.getTable(SupportedLanguage.EN_US, version);
+        manager.getTable(SupportedLanguage.DE_DE, version);
+        manager.getTable(SupportedLanguage.RU_RU, version);
+        manager.setIdleTimeout(Duration.ofMillis(200));
+
+        TimeUnit.MILLISECONDS.sleep(300);
+        manager.touch(SupportedLanguage.RU_RU, version);
+        manager.evictColdTables();
+
+        assertEquals(List.of(new TranslationKey(SupportedLanguage.DE_DE, version)), evicted);
+        manager.unpin(SupportedLanguage.EN_US, version);
+    }
+
+    @Test
+    void memoryBudgetEvictsTheLeastRecentlyUsedUnpinnedTablesFirst() throws InterruptedException {
+        evictUnpinnedTables();
+        manager.addCacheListener(evictionRecorder);
+        long before = manager.getEvictionStatistics().cachedBytes();
+        manager.pin(SupportedLanguage.EN_US, version);
+        manager.getTable(SupportedLanguage.EN_US, version);
+        long weight = manager.getEvictionStatistics().cachedBytes() - before;
+        manager.getTable(SupportedLanguage.DE_DE, version);
+        manager.getTable(SupportedLanguage.RU_RU, version);
+        manager.getTable(SupportedLanguage.ES_ES, version);
+
+        // Tables used during the last five seconds are never evicted to honour the budget.
+        TimeUnit.MILLISECONDS.sleep(5_100);
+        manager.touch(SupportedLanguage.DE_DE, version);
+        manager.setMemoryBudget(before + 3 * weight + weight / 2);
+        manager.evictColdTables();
+
+        assertEquals(List.of(new TranslationKey(SupportedLanguage.RU_RU, version)), evicted);
+        assertEquals(before + 3 * weight, manager.getEvictionStatistics().cachedBytes());
+        manager.unpin(SupportedLanguage.EN_US, version);
+    }
+
+    @Test
+    void fallbackVersionMustBeARelease() {
+        assertThrows(IllegalArgumentException.class,
+                () -> manager.setFallbackVersion(SupportedVersion.Snapshot.SNAPSHOT_24W21A));
+        assertThrows(IllegalArgumentException.class,
+                () -> manager.setFallbackVersion(SupportedVersion.PreRelease.V1_21_PRE1));
+        assertThrows(IllegalArgumentException.class, () -> manager.setFallbackVersion(() -> "1.20.4"));
+        assertDoesNotThrow(() -> manager.setFallbackVersion(SupportedVersion.Release.V1_20_4));
+    }
+
+    @Test
+    void missingTranslationsAreFilledFromTheFallbackVersion() {
+        body = "{\"block.minecraft.stone\":\"Smooth Stone\"}";
+        manager.setFallbackVersion(SupportedVersion.Release.V1_20_4);
+
+        TranslationTable fallback = manager.getTable(SupportedLanguage.EN_US, SupportedVersion.Release.V1_20_4);
+        TranslationTable table = manager.getTable(SupportedLanguage.EN_US, version);
+
+        assertEquals("Smooth Stone", table.get(Material.STONE));
+        assertEquals("Stone", fallback.get(Material.STONE));
+        assertEquals("Dirt", table.get(Material.DIRT));
+        assertEquals("Diamond Sword", table.get(Material.DIAMOND_SWORD));
+        assertEquals(fallback.size(), table.size());
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void missingLanguageFileSharesTheFallbackTable() {
+        status = 404;
+        manager.setFallbackVersion(SupportedVersion.Release.V1_20_4);
+
+        TranslationTable table = manager.getTable(SupportedLanguage.EN_US, version);
+
+        assertSame(manager.getTable(SupportedLanguage.EN_US, SupportedVersion.Release.V1_20_4), table);
+        assertFalse(manager.evict(SupportedLanguage.EN_US, SupportedVersion.Release.V1_20_4));
+        assertTrue(manager.evict(SupportedLanguage.EN_US, version));
+    }
+
+    @Test
+    void missingLanguageFileWithoutFallbackIsNotCached() {
+        status = 404;
+        assertThrows(CompletionException.class, () -> manager.getTable(SupportedLanguage.EN_US, version));
+
+        status = 200;
+        assertEquals(2, manager.getTable(SupportedLanguage.EN_US, version).size());
+    }
+
+    /**
+     * Evicts every table left by other tests that is not pinned, so that they do not count against the budget.
+     */
+    private void evictUnpinnedTables() throws InterruptedException {
+        manager.setIdleTimeout(Duration.ofMillis(1));
+        TimeUnit.MILLISECONDS.sleep(5);
+        while (manager.evictColdTables() > 0) {
+            // Evicting a delta table makes its base table evictable.
+        }
+        manager.setIdleTimeout(null);
+    }
+}
@@ -0,0 +1,53 @@
+package ru.dverkask.polyglotmc.provider;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+import ru.dverkask.polyglotmc.api.TranslationResult;
+import ru.dverkask.polyglotmc.lang.SupportedLanguage;
+import ru.dverkask.polyglotmc.table.ArrayTranslationTable;
+import ru.dverkask.polyglotmc.table.DeltaTranslationTable;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ArrayTranslationProviderTest {
+    private static final Map<Material, String> TRANSLATIONS = Map.of(Material.STONE, "Stone", Material.DIRT, "Dirt");
+
+    @Test
+    void servesTheArrayOfTheTableWithoutCopyingIt() {
+        ArrayTranslationTable table = ArrayTranslationTable.of(TRANSLATIONS);
+        ArrayTranslationProvider provider = new ArrayTranslationProvider(SupportedLanguage.EN_US, table);
+
+        assertSame(table.translations()[Material.STONE.ordinal()], provider.getTranslationOrNull(Material.STONE));
+        assertNull(provider.getTranslationOrNull(Material.DIAMOND));
+    }
+
+    @Test
+    void reusesTheResultOfEachMaterial() {
+        ArrayTranslationProvider provider = new ArrayTranslationProvider(SupportedLanguage.EN_US, TRANSLATIONS);
+
+        TranslationResult stone = provider.getResult(Material.STONE, SupportedLanguage.EN_US);
+        assertSame(stone, provider.getResult(Material.STONE, SupportedLanguage.EN_US));
+        assertEquals("Stone", stone.translatedName());
+
+        TranslationResult diamond = provider.getResult(Material.DIAMOND, SupportedLanguage.EN_US);
+        assertEquals("DIAMOND", diamond.translatedName());
+        assertFalse(diamond.isTranslated());
+    }
+
+    @Test
+    void readsOtherTablesOnEachLookup() {
+        DeltaTranslationTable table = DeltaTranslationTable.of(ArrayTranslationTable.of(TRANSLATIONS),
+                Map.of(Material.STONE, "Stone", Material.DIRT, "Soil"));
+        ArrayTranslationProvider provider = new ArrayTranslationProvider(SupportedLanguage.EN_US, table);
+
+        String[] target = new String[3];
+        provider.getTranslationsOrNull(new Material[] {Material.STONE, Material.DIRT, Material.DIAMOND}, target);
+        assertArrayEquals(new String[] {"Stone", "Soil", null}, target);
+    }
+}
@@ -0,0 +1,118 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactTranslationTableTest {
+    private static final Map<Material, String> TRANSLATIONS = translations();
+
+    @Test
+    void decodesEveryTranslationWithAndWithoutHotCache() {
+        for (int hotCacheSize : new int[] {0, 1, 2, CompactTranslationTable.DEFAULT_HOT_CACHE_SIZE}) {
+            CompactTranslationTable table = CompactTranslationTable.of(TRANSLATIONS, hotCacheSize);
+            for (int pass = 0; pass < 2; pass++) {
+                for (Material material : Material.values()) {
+                    assertEquals(TRANSLATIONS.get(material), table.get(material), material + " with cache " + hotCacheSize);
+                }
+            }
+            assertEquals(TRANSLATIONS.size(), table.size());
+        }
+    }
+
+    @Test
+    void emptyTranslationsAreMissing() {
+        CompactTranslationTable table = CompactTranslationTable.of(Map.of(Material.STONE, "", Material.DIRT, "Земля"));
+
+        assertNull(table.get(Material.STONE));
+        assertEquals("Земля", table.get(Material.DIRT));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void hotCacheSizeMustBeAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> CompactTranslationTable.of(TRANSLATIONS, 3));
+        assertThrows(IllegalArgumentException.class, () -> CompactTranslationTable.of(TRANSLATIONS, -1));
+    }
+
+    @Test
+    void collidingLookupsFromManyThreadsNeverReturnAnotherTranslation() throws Exception {
+        CompactTranslationTable table = CompactTranslationTable.of(TRANSLATIONS, 2);
+        Material[] materials = Material.values();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 200_000; i++) {
+                        Material material = materials[(i + offset) % materials.length];
+                        String translation = table.get(material);
+                        if (!Objects.equals(TRANSLATIONS.get(material), translation)) {
+                            throw new AssertionError(material + " was translated to " + translation);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void mapViewReadsEachTranslationOnce() {
+        CompactTranslationTable compact = CompactTranslationTable.of(TRANSLATIONS, 0);
+        AtomicInteger lookups = new AtomicInteger();
+        TranslationTable counting = new TranslationTable() {
+            @Override
+            public String get(Material item) {
+                lookups.incrementAndGet();
+                return compact.get(item);
+            }
+
+            @Override
+            public int size() {
+                return compact.size();
+            }
+
+            @Override
+            public long estimatedBytes() {
+                return compact.estimatedBytes();
+            }
+        };
+
+        Map<Material, String> copy = new EnumMap<>(Material.class);
+        copy.putAll(counting.asMap());
+
+        assertEquals(TRANSLATIONS, copy);
+        assertEquals(Material.values().length, lookups.get());
+        assertTrue(copy.size() < Material.values().length);
+    }
+
+    private static Map<Material, String> translations() {
+        Map<Material, String> translations = new EnumMap<>(Material.class);
+        Material[] materials = Material.values();
+        for (int i = 0; i < materials.length; i += 2) {
+            translations.put(materials[i], "Перевод " + materials[i].name().toLowerCase());
+        }
+        return translations;
+    }
+}
@@ -0,0 +1,81 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeltaTranslationTableTest {
+    private static final Map<Material, String> BASE = Map.of(
+            Material.STONE, "Stone", Material.DIRT, "Dirt", Material.DIAMOND, "Diamond");
+    private static final Map<Material, String> CHANGED = Map.of(
+            Material.STONE, "Stone", Material.DIRT, "Soil", Material.CROSSBOW, "Crossbow");
+
+    @Test
+    void readsUnchangedTranslationsFromTheBase() {
+        DeltaTranslationTable table = DeltaTranslationTable.of(ArrayTranslationTable.of(BASE), CHANGED);
+
+        assertEquals("Stone", table.get(Material.STONE));
+        assertEquals("Soil", table.get(Material.DIRT));
+        assertEquals("Crossbow", table.get(Material.CROSSBOW));
+        assertNull(table.get(Material.DIAMOND));
+        assertEquals(3, table.size());
+    }
+
+    @Test
+    void findsChangedTranslationsByRankOverArrayAndCompactBases() {
+        Map<Material, String> base = new EnumMap<>(Material.class);
+        Map<Material, String> changed = new EnumMap<>(Material.class);
+        for (Material material : Material.values()) {
+            int ordinal = material.ordinal();
+            if (ordinal % 2 == 0) {
+                base.put(material, "base " + ordinal);
+            }
+            if (ordinal % 3 == 0) {
+                changed.put(material, "changed " + ordinal);
+            } else if (ordinal % 2 == 0 && ordinal % 5 != 0) {
+                changed.put(material, "base " + ordinal);
+            }
+        }
+
+        for (TranslationTable baseTable : List.of(ArrayTranslationTable.of(base), CompactTranslationTable.of(base, 0))) {
+            DeltaTranslationTable table = DeltaTranslationTable.of(baseTable, changed);
+            for (Material material : Material.values()) {
+                assertEquals(changed.get(material), table.get(material), material.name());
+            }
+            assertEquals(changed.size(), table.size());
+            assertEquals(DeltaTranslationTable.countChanges(baseTable, changed), table.changes());
+            assertEquals(changed, new EnumMap<>(table.asMap()));
+        }
+    }
+
+    @Test
+    void identicalTranslationsHaveNoChanges() {
+        DeltaTranslationTable table = DeltaTranslationTable.of(ArrayTranslationTable.of(BASE), BASE);
+
+        assertEquals(0, table.changes());
+        assertEquals("Dirt", table.get(Material.DIRT));
+        assertEquals(BASE.size(), table.size());
+    }
+
+    @Test
+    void baseMustNotBeADeltaTable() {
+        DeltaTranslationTable delta = DeltaTranslationTable.of(ArrayTranslationTable.of(BASE), CHANGED);
+
+        assertThrows(IllegalArgumentException.class, () -> DeltaTranslationTable.of(delta, BASE));
+    }
+
+    @Test
+    void isCompactWhenItsBaseIsCompact() {
+        assertTrue(DeltaTranslationTable.of(CompactTranslationTable.of(BASE), CHANGED).isCompact());
+        assertFalse(DeltaTranslationTable.of(ArrayTranslationTable.of(BASE), CHANGED).isCompact());
+    }
+}
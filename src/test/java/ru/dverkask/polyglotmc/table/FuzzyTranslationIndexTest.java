@@ -0,0 +1,72 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzyTranslationIndexTest {
+    private static final FuzzyTranslationIndex INDEX = FuzzyTranslationIndex.of(translations()::get);
+
+    @Test
+    void ranksTheClosestNameFirst() {
+        assertEquals(Material.DIAMOND_SWORD, INDEX.search("dimond sword", 3).get(0));
+        assertEquals(Material.DIAMOND, INDEX.search("DIAMODN", 3).get(0));
+        assertEquals(Material.CROSSBOW, INDEX.search("  cross   bow ", 3).get(0));
+    }
+
+    @Test
+    void exactNameOutranksLongerNames() {
+        assertEquals(List.of(Material.DIAMOND, Material.DIAMOND_SWORD), INDEX.search("diamond", 2));
+    }
+
+    @Test
+    void equalScoresKeepDeclarationOrder() {
+        assertEquals(List.of(Material.STONE, Material.GRANITE), INDEX.search("ston", 2));
+    }
+
+    @Test
+    void returnsAtMostLimitMatches() {
+        assertEquals(1, INDEX.search("diamond", 1).size());
+        assertTrue(INDEX.search("diamond", 0).isEmpty());
+        assertTrue(INDEX.search("d", 100).size() <= INDEX.size());
+    }
+
+    @Test
+    void ignoresNamesSharingNoTrigram() {
+        assertTrue(INDEX.search("xyz", 10).isEmpty());
+        assertTrue(INDEX.search("   ", 10).isEmpty());
+        assertTrue(INDEX.search("", 10).isEmpty());
+    }
+
+    @Test
+    void findsNamesWithCharactersAboveU7FFF() {
+        assertEquals(Material.POTION, INDEX.search("喷溅药水", 1).get(0));
+        assertEquals(Material.POTION, INDEX.search("喷溅药", 1).get(0));
+    }
+
+    @Test
+    void skipsMaterialsWithoutName() {
+        assertEquals(7, INDEX.size());
+        assertEquals(0, FuzzyTranslationIndex.of(material -> null).size());
+        assertTrue(FuzzyTranslationIndex.of(material -> null).search("stone", 10).isEmpty());
+    }
+
+    private static Map<Material, String> translations() {
+        Map<Material, String> translations = new EnumMap<>(Material.class);
+        translations.put(Material.STONE, "Stone");
+        translations.put(Material.GRANITE, "Stone");
+        translations.put(Material.DIRT, "");
+        translations.put(Material.OAK_LOG, "Oak Log");
+        translations.put(Material.DIAMOND_SWORD, "Diamond Sword");
+        translations.put(Material.DIAMOND, "Diamond");
+        translations.put(Material.CROSSBOW, "Crossbow");
+        translations.put(Material.POTION, "喷溅药水");
+        return translations;
+    }
+}
@@ -0,0 +1,120 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class KeyedTranslationTableTest {
+
+    @Test
+    void findsKeysWhoseHashesCollide() {
+        // "Aa" and "BB" share a String hash, so these keys probe the same slots
+        assertEquals("key.Aa".hashCode(), "key.BB".hashCode());
+        KeyedTranslationTable table = KeyedTranslationTable.builder()
+                .add("key.Aa", "first")
+                .add("key.BB", "second")
+                .add("key.AaBB", "third")
+                .add("key.BBAa", "fourth")
+                .build();
+
+        assertEquals("first", table.get("key.Aa"));
+        assertEquals("second", table.get("key.BB"));
+        assertEquals("third", table.get("key.AaBB"));
+        assertEquals("fourth", table.get("key.BBAa"));
+        assertNull(table.get("key.AaAa"));
+        assertEquals(4, table.keyCount());
+    }
+
+    @Test
+    void findsEveryKeyAfterTheBuilderGrows() {
+        KeyedTranslationTable.Builder builder = KeyedTranslationTable.builder();
+        Map<String, String> expected = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            String key = "item.minecraft.generated_item_" + i;
+            builder.add(key, "Item " + i);
+            expected.put(key, "Item " + i);
+        }
+        KeyedTranslationTable table = builder.build();
+
+        Map<String, String> visited = new HashMap<>();
+        table.forEach(visited::put);
+        assertEquals(expected, visited);
+        expected.forEach((key, value) -> assertEquals(value, table.get(key), key));
+        assertNull(table.get("item.minecraft.generated_item_5000"));
+        assertNull(table.get("item.minecraft.generated_item_"));
+    }
+
+    @Test
+    void keepsTheFirstOfDuplicateKeys() {
+        KeyedTranslationTable table = KeyedTranslationTable.builder()
+                .add("entity.minecraft.zombie", "Zombie")
+                .add("entity.minecraft.zombie", "Other")
+                .build();
+
+        assertEquals("Zombie", table.get("entity.minecraft.zombie"));
+        assertEquals(1, table.keyCount());
+    }
+
+    @Test
+    void ignoresKeysOutsideLatin1() {
+        KeyedTranslationTable table = KeyedTranslationTable.builder()
+                .add("gui.café", "Café")
+                .add("gui.ключ", "Ключ")
+                .build();
+
+        assertEquals("Café", table.get("gui.café"));
+        assertNull(table.get("gui.ключ"));
+        assertEquals(1, table.keyCount());
+    }
+
+    @Test
+    void addsKeysFromAPartOfABuffer() {
+        char[] buffer = "block.minecraft.stone_and_more".toCharArray();
+        KeyedTranslationTable table = KeyedTranslationTable.builder()
+                .add(buffer, "block.minecraft.stone".length(), "Stone")
+                .build();
+
+        assertEquals("Stone", table.get("block.minecraft.stone"));
+        assertNull(table.get("block.minecraft.stone_and_more"));
+    }
+
+    @Test
+    void findsNamespacedKeysByCategory() {
+        KeyedTranslationTable table = KeyedTranslationTable.builder()
+                .add("entity.minecraft.zombie", "Zombie")
+                .add("effect.minecraft.speed", "Speed")
+                .build();
+
+        assertEquals("Zombie", table.get("entity", NamespacedKey.minecraft("zombie")));
+        assertEquals("Speed", table.get("effect", NamespacedKey.minecraft("speed")));
+        assertNull(table.get("effect", NamespacedKey.minecraft("zombie")));
+        assertNull(table.get("entity", NamespacedKey.minecraft("zombi")));
+    }
+
+    @Test
+    void keepsTheFirstMaterialTranslation() {
+        KeyedTranslationTable table = KeyedTranslationTable.builder()
+                .material(Material.STONE, "Stone")
+                .material(Material.STONE, "Other")
+                .build();
+
+        assertEquals("Stone", table.get(Material.STONE));
+        assertNull(table.get(Material.DIRT));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void emptyTableFindsNothing() {
+        KeyedTranslationTable table = KeyedTranslationTable.empty();
+
+        assertNull(table.get("block.minecraft.stone"));
+        assertNull(table.get("entity", NamespacedKey.minecraft("zombie")));
+        assertEquals(0, table.keyCount());
+    }
+}
@@ -0,0 +1,73 @@
+package ru.dverkask.polyglotmc.table;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReverseTranslationIndexTest {
+    private static final ReverseTranslationIndex INDEX = ReverseTranslationIndex.of(translations()::get);
+
+    @Test
+    void normalizesCaseWidthAndWhitespace() {
+        assertEquals("diamond sword", ReverseTranslationIndex.normalize("  Diamond \t  SWORD "));
+        assertEquals("stone", ReverseTranslationIndex.normalize("Ｓｔｏｎｅ"));
+        assertEquals("", ReverseTranslationIndex.normalize("   "));
+    }
+
+    @Test
+    void findsMaterialsByExactName() {
+        assertEquals(Optional.of(Material.DIAMOND_SWORD), INDEX.find("  diamond   SWORD"));
+        assertEquals(Optional.of(Material.DIAMOND), INDEX.find("Diamond"));
+        assertEquals(Optional.empty(), INDEX.find("Diamond Swor"));
+        assertEquals(Optional.empty(), INDEX.find("Air"));
+    }
+
+    @Test
+    void sharedNamesResolveInDeclarationOrder() {
+        assertEquals(Optional.of(Material.STONE), INDEX.find("stone"));
+        assertEquals(List.of(Material.STONE, Material.GRANITE), INDEX.findAll("STONE"));
+        assertTrue(INDEX.findAll("Bedrock").isEmpty());
+    }
+
+    @Test
+    void findsMaterialsByPrefixInNameOrder() {
+        assertEquals(List.of(Material.DIAMOND, Material.DIAMOND_SWORD), INDEX.findByPrefix("dia", 10));
+        assertEquals(List.of(Material.DIAMOND), INDEX.findByPrefix("dia", 1));
+        assertEquals(List.of(Material.STONE, Material.GRANITE), INDEX.findByPrefix("st", 10));
+        assertTrue(INDEX.findByPrefix("zzz", 10).isEmpty());
+        assertEquals(INDEX.size(), INDEX.findByPrefix("", 100).size());
+    }
+
+    @Test
+    void completesEachNameOnce() {
+        assertEquals(List.of("Stone"), INDEX.complete("s", 10));
+        assertEquals(List.of("Crossbow", "Diamond", "Diamond Sword", "Dirt"), INDEX.complete("", 4));
+        assertEquals(List.of("Diamond", "Diamond Sword"), INDEX.complete("DIAMOND", 10));
+    }
+
+    @Test
+    void skipsMaterialsWithoutName() {
+        assertEquals(7, INDEX.size());
+        assertEquals(0, ReverseTranslationIndex.of(material -> null).size());
+    }
+
+    private static Map<Material, String> translations() {
+        Map<Material, String> translations = new EnumMap<>(Material.class);
+        translations.put(Material.STONE, "Stone");
+        translations.put(Material.GRANITE, "Stone");
+        translations.put(Material.DIRT, "Dirt");
+        translations.put(Material.OAK_LOG, "Oak Log");
+        translations.put(Material.DIAMOND_SWORD, "Diamond Sword");
+        translations.put(Material.DIAMOND, "Diamond");
+        translations.put(Material.CROSSBOW, "Crossbow");
+        translations.put(Material.POTION, "");
+        return translations;
+    }
+}
@@ -0,0 +1,60 @@
+package ru.dverkask.polyglotmc.version;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SupportedVersionTest {
+
+    @Test
+    void everySnapshotLeadsToASupportedReleaseNotOlderThanIt() {
+        for (SupportedVersion.Snapshot snapshot : SupportedVersion.Snapshot.values()) {
+            Optional<SupportedVersion.Release> release = SupportedVersion.targetRelease(snapshot);
+            assertTrue(release.isPresent(), snapshot + " has no supported release");
+            assertTrue(release.get().isNewerThan(snapshot), snapshot + " is not older than " + release.get());
+        }
+    }
+
+    @Test
+    void snapshotsBelongToTheReleaseTheyLeadTo() {
+        assertTarget("13w37a", "1.7.2");
+        assertTarget("13w43a", "1.7.2");
+        assertTarget("16w32b", "1.11");
+        assertTarget("16w50a", "1.11.1");
+        assertTarget("18w02a", "1.13");
+        assertTarget("19w14b", "1.14");
+        assertTarget("20w22a", "1.16");
+        assertTarget("20w27a", "1.16.2");
+        assertTarget("20w30a", "1.16.2");
+        assertTarget("20w45a", "1.17");
+        assertTarget("23w51b", "1.20.5");
+        assertTarget("24w21a", "1.21");
+    }
+
+    @Test
+    void oldSnapshotsAreOlderThanLaterReleases() {
+        Version snapshot = SupportedVersion.findByVersion("13w37a").orElseThrow();
+        assertFalse(snapshot.isNewerThan(SupportedVersion.Release.V1_10_2));
+        assertTrue(snapshot.isNewerThan(SupportedVersion.Release.V1_6_4));
+        assertTrue(snapshot.isOlderThan(SupportedVersion.Release.V1_7_2));
+    }
+
+    @Test
+    void versionsAreListedInReleaseOrder() {
+        List<Version> versions = SupportedVersion.inReleaseOrder();
+        for (int i = 1; i < versions.size(); i++) {
+            assertTrue(SupportedVersion.compare(versions.get(i - 1), versions.get(i)) <= 0,
+                    versions.get(i - 1) + " is listed before " + versions.get(i));
+        }
+    }
+
+    private static void assertTarget(String snapshot, String release) {
+        Version version = SupportedVersion.findByVersion(snapshot).orElseThrow();
+        assertEquals(release, SupportedVersion.targetRelease(version).map(Version::version).orElse(null), snapshot);
+    }
+}